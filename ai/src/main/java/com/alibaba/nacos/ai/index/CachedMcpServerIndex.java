@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.ai.index;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -28,13 +30,23 @@ import javax.annotation.PreDestroy;
 import com.alibaba.nacos.ai.constant.Constants;
 import com.alibaba.nacos.ai.model.mcp.McpServerIndexData;
 import com.alibaba.nacos.ai.utils.McpConfigUtils;
+import com.alibaba.nacos.api.ai.model.mcp.McpServerVersionInfo;
+import com.alibaba.nacos.api.ai.model.mcp.McpTool;
+import com.alibaba.nacos.api.ai.model.mcp.McpToolSpecification;
 import com.alibaba.nacos.api.model.Page;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.service.ConfigDetailService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.core.service.NamespaceOperationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,12 +54,21 @@ import org.slf4j.LoggerFactory;
 /**
  * Enhanced MCP cache index implementation combining memory cache and database queries.
  *
+ * <p>Cached entries are evicted when the version config of the MCP server is changed on each node, by listening
+ * {@link LocalDataChangeEvent}, so that the cache of all nodes follows the config notify path.
+ *
+ * <p>Blur and list searches are served by {@link McpServerSearchIndex}, which is fully loaded by the sync task and
+ * then updated by the same version and tool config change events. Namespaces which are not loaded yet are searched
+ * from database.
+ *
  * @author misselvexu
  */
-public class CachedMcpServerIndex implements McpServerIndex {
+public class CachedMcpServerIndex extends Subscriber<LocalDataChangeEvent> implements McpServerIndex {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(CachedMcpServerIndex.class);
     
+    private static final int SYNC_PAGE_SIZE = 1000;
+    
     private final McpCacheIndex cacheIndex;
     
     private final ConfigDetailService configDetailService;
@@ -58,6 +79,8 @@ public class CachedMcpServerIndex implements McpServerIndex {
     
     private final ScheduledExecutorService scheduledExecutor;
     
+    private final McpServerSearchIndex searchIndex = new McpServerSearchIndex();
+    
     private ScheduledFuture<?> syncTask;
     
     private final boolean cacheEnabled;
@@ -80,6 +103,7 @@ public class CachedMcpServerIndex implements McpServerIndex {
         this.syncInterval = syncInterval;
         if (cacheEnabled) {
             startSyncTask();
+            NotifyCenter.registerSubscriber(this);
         }
         LOGGER.info("CachedMcpServerIndex initialized with cacheEnabled={}, syncInterval={}s", cacheEnabled,
                 syncInterval);
@@ -91,9 +115,30 @@ public class CachedMcpServerIndex implements McpServerIndex {
     @Override
     public Page<McpServerIndexData> searchMcpServerByName(String namespaceId, String name, String search, int offset,
             int limit) {
+        if (cacheEnabled && offset == 0 && Constants.MCP_LIST_SEARCH_ACCURATE.equals(search)
+                && StringUtils.isNotEmpty(namespaceId) && StringUtils.isNotEmpty(name)) {
+            McpServerIndexData cachedData = cacheIndex.getMcpServerByName(namespaceId, name);
+            if (cachedData != null) {
+                LOGGER.debug("Cache hit for accurate search: {}:{}", namespaceId, name);
+                return buildSingleResultPage(cachedData);
+            }
+        }
+        if (cacheEnabled && searchIndex.isReady(namespaceId)) {
+            return searchIndex.search(namespaceId, name, Constants.MCP_LIST_SEARCH_ACCURATE.equals(search), offset,
+                    limit);
+        }
         return searchFromDatabase(namespaceId, name, search, offset, limit);
     }
     
+    private Page<McpServerIndexData> buildSingleResultPage(McpServerIndexData indexData) {
+        Page<McpServerIndexData> result = new Page<>();
+        result.setPageItems(List.of(indexData));
+        result.setTotalCount(1);
+        result.setPagesAvailable(1);
+        result.setPageNumber(1);
+        return result;
+    }
+    
     /**
      * Get MCP server information by ID.
      */
@@ -164,8 +209,8 @@ public class CachedMcpServerIndex implements McpServerIndex {
         result.setTotalCount(serverInfos.getTotalCount());
         result.setPagesAvailable((int) Math.ceil((double) serverInfos.getTotalCount() / (double) limit));
         result.setPageNumber(pageNo);
-        // Update cache
-        if (cacheEnabled) {
+        // Update cache, only accurate results are known to be named by the search term
+        if (cacheEnabled && Constants.MCP_LIST_SEARCH_ACCURATE.equals(search) && StringUtils.isNotEmpty(name)) {
             for (McpServerIndexData indexData : indexDataList) {
                 cacheIndex.updateIndex(indexData.getNamespaceId(), name, indexData.getId());
             }
@@ -285,6 +330,9 @@ public class CachedMcpServerIndex implements McpServerIndex {
             if (syncTask != null) {
                 syncTask.cancel(true);
             }
+            if (cacheEnabled) {
+                NotifyCenter.deregisterSubscriber(this);
+            }
             scheduledExecutor.shutdown();
         } catch (Exception e) {
             LOGGER.warn("shutting down sync task schedule executor failed", e);
@@ -292,27 +340,90 @@ public class CachedMcpServerIndex implements McpServerIndex {
     }
     
     /**
-     * Sync cache from database.
+     * Sync cache and search index from database.
      */
     private void syncCacheFromDatabase() {
         LOGGER.debug("Syncing cache from database");
         List<String> namespaceList = fetchOrderedNamespaceList();
         for (String namespaceId : namespaceList) {
             try {
-                Page<McpServerIndexData> result = searchMcpServerByName(namespaceId, null,
-                        Constants.MCP_LIST_SEARCH_BLUR, 0, 1000);
-                if (result != null && CollectionUtils.isNotEmpty(result.getPageItems())) {
-                    for (McpServerIndexData indexData : result.getPageItems()) {
+                List<McpServerSearchIndex.Entry> entries = new ArrayList<>();
+                int pageNo = 1;
+                Page<ConfigInfo> serverInfos;
+                do {
+                    serverInfos = searchMcpServers(namespaceId, null, Constants.MCP_LIST_SEARCH_BLUR, pageNo++,
+                            SYNC_PAGE_SIZE);
+                    for (ConfigInfo each : serverInfos.getPageItems()) {
+                        McpServerIndexData indexData = mapMcpServerVersionConfigToIndexData(each);
                         cacheIndex.updateIndex(namespaceId, indexData.getId(), indexData.getId());
+                        McpServerSearchIndex.Entry entry = loadSearchEntry(namespaceId, indexData.getId());
+                        if (entry != null) {
+                            entries.add(entry);
+                        }
                     }
-                    LOGGER.debug("Synced {} MCP servers for namespace: {}", result.getPageItems().size(), namespaceId);
-                }
+                } while (serverInfos.getPageItems().size() >= SYNC_PAGE_SIZE);
+                searchIndex.replaceNamespace(namespaceId, entries);
+                LOGGER.debug("Synced {} MCP servers for namespace: {}", entries.size(), namespaceId);
             } catch (Exception e) {
                 LOGGER.error("Error syncing cache for namespace: {}", namespaceId, e);
             }
         }
     }
     
+    /**
+     * Load the searchable fields of the MCP server from its version config and the tools of latest published version.
+     *
+     * @return searchable fields, or {@code null} if the version config does not exist
+     */
+    private McpServerSearchIndex.Entry loadSearchEntry(String namespaceId, String mcpId) {
+        String versionContent = queryConfigContent(namespaceId, McpConfigUtils.formatServerVersionInfoDataId(mcpId),
+                Constants.MCP_SERVER_VERSIONS_GROUP);
+        if (versionContent == null) {
+            return null;
+        }
+        McpServerVersionInfo versionInfo = JacksonUtils.toObj(versionContent, McpServerVersionInfo.class);
+        String toolsDataId = null;
+        List<String> toolNames = Collections.emptyList();
+        if (StringUtils.isNotEmpty(versionInfo.getLatestPublishedVersion())) {
+            toolsDataId = McpConfigUtils.formatServerToolSpecDataId(mcpId, versionInfo.getLatestPublishedVersion());
+            String toolsContent = queryConfigContent(namespaceId, toolsDataId, Constants.MCP_SERVER_TOOL_GROUP);
+            if (toolsContent != null) {
+                McpToolSpecification toolSpec = JacksonUtils.toObj(toolsContent, McpToolSpecification.class);
+                toolNames = toolSpec.getTools().stream().map(McpTool::getName).toList();
+            }
+        }
+        return new McpServerSearchIndex.Entry(mcpId, namespaceId, versionInfo.getName(),
+                versionInfo.getDescription(), toolNames, toolsDataId);
+    }
+    
+    private String queryConfigContent(String namespaceId, String dataId, String group) {
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId(dataId);
+        request.setGroup(group);
+        request.setTenant(namespaceId);
+        ConfigQueryChainResponse response = configQueryChainService.handle(request);
+        if (response == null || !McpConfigUtils.isConfigFound(response.getStatus())) {
+            return null;
+        }
+        return response.getContent();
+    }
+    
+    /**
+     * Reload one MCP server into the search index, or remove it if the version config is removed.
+     */
+    private void reindexMcpServer(String namespaceId, String mcpId) {
+        try {
+            McpServerSearchIndex.Entry entry = loadSearchEntry(namespaceId, mcpId);
+            if (entry == null) {
+                searchIndex.remove(namespaceId, mcpId);
+            } else {
+                searchIndex.put(entry);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Reindex MCP server failed, namespaceId={}, mcpId={}", namespaceId, mcpId, e);
+        }
+    }
+    
     /**
      * Get cache statistics.
      */
@@ -329,6 +440,7 @@ public class CachedMcpServerIndex implements McpServerIndex {
      */
     public void clearCache() {
         cacheIndex.clear();
+        searchIndex.clear();
         LOGGER.info("Cache cleared");
     }
     
@@ -361,6 +473,37 @@ public class CachedMcpServerIndex implements McpServerIndex {
         }
     }
     
+    /**
+     * Evict the cached MCP server whose version config is changed or removed, the new one will be loaded by next
+     * query. The search index is reloaded on the sync executor, so that it is applied in order with the full sync.
+     */
+    @Override
+    public void onEvent(LocalDataChangeEvent event) {
+        String[] keys = GroupKey2.parseKey(event.groupKey);
+        String dataId = keys[0];
+        String namespaceId = keys[2];
+        if (Constants.MCP_SERVER_VERSIONS_GROUP.equals(keys[1]) && dataId.endsWith(
+                Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX)) {
+            String mcpId = dataId.substring(0,
+                    dataId.length() - Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX.length());
+            LOGGER.debug("MCP server version config changed, removing cache entry: mcpId={}", mcpId);
+            cacheIndex.removeIndex(mcpId);
+            scheduledExecutor.execute(() -> reindexMcpServer(namespaceId, mcpId));
+        } else if (Constants.MCP_SERVER_TOOL_GROUP.equals(keys[1]) && dataId.endsWith(
+                Constants.MCP_SERVER_TOOL_DATA_ID_SUFFIX)) {
+            scheduledExecutor.execute(() -> {
+                for (String each : searchIndex.findIdsByToolsDataId(namespaceId, dataId)) {
+                    reindexMcpServer(namespaceId, each);
+                }
+            });
+        }
+    }
+    
+    @Override
+    public Class<? extends Event> subscribeType() {
+        return LocalDataChangeEvent.class;
+    }
+    
     /**
      * Remove cache entry by MCP server ID.
      *
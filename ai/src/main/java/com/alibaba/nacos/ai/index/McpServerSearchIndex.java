@@ -0,0 +1,328 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.ai.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.alibaba.nacos.ai.model.mcp.McpServerIndexData;
+import com.alibaba.nacos.api.model.Page;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+/**
+ * In memory inverted index of MCP servers, keyed by the tokens of server names, descriptions and tool names.
+ *
+ * <p>Each namespace is only searchable after it is fully loaded by {@link #replaceNamespace(String, Collection)},
+ * callers should fall back to database queries for namespaces which are not {@link #isReady(String) ready}.
+ *
+ * @author Nacos
+ */
+class McpServerSearchIndex {
+    
+    private static final int MIN_FUZZY_TOKEN_LENGTH = 4;
+    
+    private static final int SCORE_EXACT = 0;
+    
+    private static final int SCORE_PREFIX = 1;
+    
+    private static final int SCORE_CONTAINS = 2;
+    
+    private static final int SCORE_TOKEN = 3;
+    
+    private static final int SCORE_FUZZY = 4;
+    
+    private final Map<String, NamespaceIndex> namespaces = new ConcurrentHashMap<>();
+    
+    boolean isReady(String namespaceId) {
+        return StringUtils.isNotEmpty(namespaceId) && namespaces.containsKey(namespaceId);
+    }
+    
+    /**
+     * Replace all servers of the namespace and make the namespace searchable.
+     */
+    void replaceNamespace(String namespaceId, Collection<Entry> entries) {
+        NamespaceIndex index = new NamespaceIndex();
+        for (Entry each : entries) {
+            index.put(each);
+        }
+        namespaces.put(namespaceId, index);
+    }
+    
+    /**
+     * Add or replace one server, ignored if the namespace is not loaded yet, next full load will include it.
+     */
+    void put(Entry entry) {
+        NamespaceIndex index = namespaces.get(entry.namespaceId);
+        if (index != null) {
+            index.put(entry);
+        }
+    }
+    
+    void remove(String namespaceId, String id) {
+        NamespaceIndex index = namespaces.get(namespaceId);
+        if (index != null) {
+            index.remove(id);
+        }
+    }
+    
+    /**
+     * Find servers whose latest published tools are stored in the config of {@code toolsDataId}.
+     */
+    List<String> findIdsByToolsDataId(String namespaceId, String toolsDataId) {
+        NamespaceIndex index = namespaces.get(namespaceId);
+        return index == null ? Collections.emptyList() : index.findIdsByToolsDataId(toolsDataId);
+    }
+    
+    void clear() {
+        namespaces.clear();
+    }
+    
+    /**
+     * Search servers of a ready namespace.
+     *
+     * <p>Accurate search only matches the whole name. Blur search matches name prefix and substring, then the tokens of
+     * name, description and tool names by prefix, and at last the tokens within one edit. Results are ordered by the
+     * match kind and then by name.
+     */
+    Page<McpServerIndexData> search(String namespaceId, String name, boolean accurate, int offset, int limit) {
+        NamespaceIndex index = namespaces.get(namespaceId);
+        List<Entry> matched = index == null ? Collections.emptyList() : index.search(name, accurate);
+        int pageNo = offset / limit + 1;
+        List<McpServerIndexData> pageItems = new ArrayList<>();
+        for (int i = offset; i < matched.size() && i < offset + limit; i++) {
+            pageItems.add(McpServerIndexData.newIndexData(matched.get(i).id, namespaceId));
+        }
+        Page<McpServerIndexData> result = new Page<>();
+        result.setPageItems(pageItems);
+        result.setTotalCount(matched.size());
+        result.setPagesAvailable((int) Math.ceil((double) matched.size() / (double) limit));
+        result.setPageNumber(pageNo);
+        return result;
+    }
+    
+    static List<String> tokenize(String text) {
+        if (StringUtils.isEmpty(text)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String each : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!each.isEmpty()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Whether the two tokens are equal or differ by a single insertion, deletion or substitution.
+     */
+    static boolean withinOneEdit(String left, String right) {
+        int lengthDiff = left.length() - right.length();
+        if (Math.abs(lengthDiff) > 1) {
+            return false;
+        }
+        String longer = lengthDiff >= 0 ? left : right;
+        String shorter = lengthDiff >= 0 ? right : left;
+        int i = 0;
+        int j = 0;
+        boolean edited = false;
+        while (i < longer.length() && j < shorter.length()) {
+            if (longer.charAt(i) == shorter.charAt(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            if (edited) {
+                return false;
+            }
+            edited = true;
+            i++;
+            if (longer.length() == shorter.length()) {
+                j++;
+            }
+        }
+        return !edited || i == longer.length();
+    }
+    
+    /**
+     * Searchable fields of one MCP server.
+     */
+    static final class Entry {
+        
+        private final String id;
+        
+        private final String namespaceId;
+        
+        private final String name;
+        
+        private final String lowerName;
+        
+        private final String toolsDataId;
+        
+        private final Set<String> tokens;
+        
+        Entry(String id, String namespaceId, String name, String description, List<String> toolNames,
+                String toolsDataId) {
+            this.id = id;
+            this.namespaceId = namespaceId;
+            this.name = null == name ? "" : name;
+            this.lowerName = this.name.toLowerCase(Locale.ROOT);
+            this.toolsDataId = toolsDataId;
+            this.tokens = new HashSet<>(tokenize(name));
+            this.tokens.addAll(tokenize(description));
+            for (String each : toolNames) {
+                this.tokens.addAll(tokenize(each));
+            }
+        }
+        
+        String getId() {
+            return id;
+        }
+        
+        Set<String> getTokens() {
+            return tokens;
+        }
+    }
+    
+    private static final class NamespaceIndex {
+        
+        private final Map<String, Entry> entries = new HashMap<>();
+        
+        private final TreeMap<String, Set<String>> tokenToIds = new TreeMap<>();
+        
+        synchronized void put(Entry entry) {
+            remove(entry.id);
+            entries.put(entry.id, entry);
+            for (String each : entry.tokens) {
+                tokenToIds.computeIfAbsent(each, key -> new HashSet<>()).add(entry.id);
+            }
+        }
+        
+        synchronized void remove(String id) {
+            Entry old = entries.remove(id);
+            if (old == null) {
+                return;
+            }
+            for (String each : old.tokens) {
+                Set<String> ids = tokenToIds.get(each);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    tokenToIds.remove(each);
+                }
+            }
+        }
+        
+        synchronized List<String> findIdsByToolsDataId(String toolsDataId) {
+            List<String> result = new ArrayList<>();
+            for (Entry each : entries.values()) {
+                if (toolsDataId.equals(each.toolsDataId)) {
+                    result.add(each.id);
+                }
+            }
+            return result;
+        }
+        
+        synchronized List<Entry> search(String name, boolean accurate) {
+            List<Entry> result = new ArrayList<>();
+            if (StringUtils.isEmpty(name)) {
+                result.addAll(entries.values());
+                result.sort(Comparator.comparing((Entry entry) -> entry.name).thenComparing(entry -> entry.id));
+                return result;
+            }
+            if (accurate) {
+                for (Entry each : entries.values()) {
+                    if (each.name.equals(name)) {
+                        result.add(each);
+                    }
+                }
+                result.sort(Comparator.comparing(entry -> entry.id));
+                return result;
+            }
+            Map<Entry, Integer> scores = new HashMap<>();
+            String keyword = name.toLowerCase(Locale.ROOT);
+            for (Entry each : entries.values()) {
+                if (each.lowerName.equals(keyword)) {
+                    scores.put(each, SCORE_EXACT);
+                } else if (each.lowerName.startsWith(keyword)) {
+                    scores.put(each, SCORE_PREFIX);
+                } else if (each.lowerName.contains(keyword)) {
+                    scores.put(each, SCORE_CONTAINS);
+                }
+            }
+            List<String> queryTokens = tokenize(keyword);
+            if (!queryTokens.isEmpty()) {
+                Set<String> tokenMatched = null;
+                Set<String> fuzzyMatched = null;
+                for (String each : queryTokens) {
+                    Set<String> prefixIds = findIdsByTokenPrefix(each);
+                    Set<String> looseIds = new HashSet<>(prefixIds);
+                    looseIds.addAll(findIdsByFuzzyToken(each));
+                    tokenMatched = retain(tokenMatched, prefixIds);
+                    fuzzyMatched = retain(fuzzyMatched, looseIds);
+                }
+                for (String each : fuzzyMatched) {
+                    int score = tokenMatched.contains(each) ? SCORE_TOKEN : SCORE_FUZZY;
+                    scores.merge(entries.get(each), score, Math::min);
+                }
+            }
+            result.addAll(scores.keySet());
+            result.sort(Comparator.comparing((Entry entry) -> scores.get(entry)).thenComparing(entry -> entry.name)
+                    .thenComparing(entry -> entry.id));
+            return result;
+        }
+        
+        private Set<String> findIdsByTokenPrefix(String prefix) {
+            Set<String> result = new HashSet<>();
+            for (Set<String> ids : tokenToIds.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                result.addAll(ids);
+            }
+            return result;
+        }
+        
+        private Set<String> findIdsByFuzzyToken(String token) {
+            if (token.length() < MIN_FUZZY_TOKEN_LENGTH) {
+                return Collections.emptySet();
+            }
+            Set<String> result = new HashSet<>();
+            for (Map.Entry<String, Set<String>> each : tokenToIds.entrySet()) {
+                if (withinOneEdit(token, each.getKey())) {
+                    result.addAll(each.getValue());
+                }
+            }
+            return result;
+        }
+        
+        private static Set<String> retain(Set<String> current, Set<String> matched) {
+            if (current == null) {
+                return new LinkedHashSet<>(matched);
+            }
+            current.retainAll(matched);
+            return current;
+        }
+    }
+}
+    
\ No newline at end of file
@@ -47,11 +47,15 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.model.form.ConfigFormV3;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +89,8 @@ public class McpServerOperationService {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(McpServerOperationService.class);
     
+    private static final int MAX_DETAIL_CACHE_SIZE = 1000;
+    
     private final ConfigQueryChainService configQueryChainService;
     
     private final ConfigOperationService configOperationService;
@@ -97,6 +103,12 @@ public class McpServerOperationService {
     
     private final McpServerSyncEffectService syncEffectService;
     
+    /**
+     * key: namespaceId, mcp server id and requested version, value: mcp server detail without endpoints.
+     */
+    private final Cache<String, CachedMcpServerDetail> detailCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_DETAIL_CACHE_SIZE).build();
+    
     public McpServerOperationService(ConfigQueryChainService configQueryChainService,
             ConfigOperationService configOperationService, McpToolOperationService toolOperationService,
             McpEndpointOperationService endpointOperationService, McpServerIndex mcpServerIndex,
@@ -176,6 +188,33 @@ public class McpServerOperationService {
             String version) throws NacosException {
         mcpServerId = resolveMcpServerId(namespaceId, mcpServerName, mcpServerId);
         
+        String cacheKey = buildDetailCacheKey(namespaceId, mcpServerId, version);
+        CachedMcpServerDetail cachedDetail = detailCache.getIfPresent(cacheKey);
+        McpServerDetailInfo detail;
+        if (null != cachedDetail && cachedDetail.isValid()) {
+            detail = cachedDetail.getDetail();
+        } else {
+            detail = loadMcpServerDetail(namespaceId, mcpServerId, version, cacheKey);
+        }
+        
+        McpServerDetailInfo result = new McpServerDetailInfo();
+        BeanUtils.copyProperties(detail, result);
+        if (!AiConstants.Mcp.MCP_PROTOCOL_STDIO.equalsIgnoreCase(result.getProtocol())) {
+            injectEndpoint(result);
+        }
+        return result;
+    }
+    
+    /**
+     * Load mcp server detail without endpoints from configs, and cache it if all configs can be validated by md5 in
+     * local config cache. The md5 is got before reading each config, so a cached detail is never newer than its md5.
+     */
+    private McpServerDetailInfo loadMcpServerDetail(String namespaceId, String mcpServerId, String version,
+            String cacheKey) throws NacosApiException {
+        List<String> groupKeys = new ArrayList<>(3);
+        List<String> md5s = new ArrayList<>(3);
+        recordMd5(groupKeys, md5s, McpConfigUtils.formatServerVersionInfoDataId(mcpServerId),
+                Constants.MCP_SERVER_VERSIONS_GROUP, namespaceId);
         McpServerVersionInfo mcpServerVersionInfo = getMcpServerVersionInfo(namespaceId, mcpServerId);
         if (StringUtils.isEmpty(version)) {
             int size = mcpServerVersionInfo.getVersionDetails().size();
@@ -184,6 +223,7 @@ public class McpServerOperationService {
         }
         
         ConfigQueryChainRequest request = buildQueryMcpServerRequest(namespaceId, mcpServerId, version);
+        recordMd5(groupKeys, md5s, request.getDataId(), request.getGroup(), namespaceId);
         ConfigQueryChainResponse response = configQueryChainService.handle(request);
         if (McpConfigUtils.isConfigNotFound(response.getStatus())) {
             throw new NacosApiException(NacosApiException.NOT_FOUND, ErrorCode.MCP_SEVER_VERSION_NOT_FOUND,
@@ -210,17 +250,29 @@ public class McpServerOperationService {
         result.setVersion(versionDetail.getVersion());
         
         if (Objects.nonNull(serverSpecification.getToolsDescriptionRef())) {
+            recordMd5(groupKeys, md5s, serverSpecification.getToolsDescriptionRef(), Constants.MCP_SERVER_TOOL_GROUP,
+                    namespaceId);
             McpToolSpecification toolSpec = toolOperationService.getMcpTool(namespaceId,
                     serverSpecification.getToolsDescriptionRef());
             result.setToolSpec(toolSpec);
         }
         
-        if (!AiConstants.Mcp.MCP_PROTOCOL_STDIO.equalsIgnoreCase(serverSpecification.getProtocol())) {
-            injectEndpoint(result);
+        if (!md5s.contains(StringUtils.EMPTY)) {
+            detailCache.put(cacheKey, new CachedMcpServerDetail(result, groupKeys, md5s));
         }
         return result;
     }
     
+    private void recordMd5(List<String> groupKeys, List<String> md5s, String dataId, String group, String namespaceId) {
+        String groupKey = GroupKey2.getKey(dataId, group, namespaceId);
+        groupKeys.add(groupKey);
+        md5s.add(ConfigCacheService.getContentMd5(groupKey));
+    }
+    
+    private String buildDetailCacheKey(String namespaceId, String mcpServerId, String version) {
+        return GroupKey2.getKey(mcpServerId, null == version ? StringUtils.EMPTY : version, namespaceId);
+    }
+    
     private McpServerVersionInfo getMcpServerVersionInfo(String namespaceId, String mcpServerId)
             throws NacosApiException {
         ConfigQueryChainRequest request = buildQueryMcpServerVersionInfoRequest(namespaceId, mcpServerId);
@@ -678,4 +730,35 @@ public class McpServerOperationService {
                     namespaceId, mcpName, mcpServerId, e.getMessage());
         }
     }
+    
+    /**
+     * Mcp server detail built from configs, valid as long as the md5 of each config is not changed.
+     */
+    private static class CachedMcpServerDetail {
+        
+        private final McpServerDetailInfo detail;
+        
+        private final List<String> groupKeys;
+        
+        private final List<String> md5s;
+        
+        private CachedMcpServerDetail(McpServerDetailInfo detail, List<String> groupKeys, List<String> md5s) {
+            this.detail = detail;
+            this.groupKeys = groupKeys;
+            this.md5s = md5s;
+        }
+        
+        private McpServerDetailInfo getDetail() {
+            return detail;
+        }
+        
+        private boolean isValid() {
+            for (int i = 0; i < groupKeys.size(); i++) {
+                if (!md5s.get(i).equals(ConfigCacheService.getContentMd5(groupKeys.get(i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -17,13 +17,16 @@
 package com.alibaba.nacos.ai.index;
 
 import com.alibaba.nacos.ai.constant.Constants;
+import com.alibaba.nacos.ai.config.McpCacheIndexProperties;
 import com.alibaba.nacos.ai.model.mcp.McpServerIndexData;
 import com.alibaba.nacos.api.model.Page;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.service.ConfigDetailService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.core.service.NamespaceOperationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,11 +42,14 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -247,6 +253,156 @@ class CachedMcpServerIndexTest {
         verify(cacheIndex).updateIndex(eq(namespaceId), eq(mcpName), eq(mcpId));
     }
     
+    @Test
+    void testSearchMcpServerByNameWithCacheHit() {
+        final String namespaceId = "test-namespace";
+        final String mcpName = "test-mcp";
+        final String mcpId = "test-id-123";
+        when(cacheIndex.getMcpServerByName(namespaceId, mcpName)).thenReturn(
+                McpServerIndexData.newIndexData(mcpId, namespaceId));
+        
+        Page<McpServerIndexData> result = cachedIndex.searchMcpServerByName(namespaceId, mcpName,
+                Constants.MCP_LIST_SEARCH_ACCURATE, 0, 10);
+        
+        assertEquals(1, result.getTotalCount());
+        assertEquals(1, result.getPageItems().size());
+        assertEquals(mcpId, result.getPageItems().get(0).getId());
+        verify(configDetailService, never()).findConfigInfoPage(any(), anyInt(), anyInt(), any(), any(), any(), any());
+    }
+    
+    @Test
+    void testAccurateSearchAfterBlurSearch() {
+        final String namespaceId = "test-namespace";
+        McpCacheIndexProperties properties = new McpCacheIndexProperties();
+        MemoryMcpCacheIndex memoryCacheIndex = new MemoryMcpCacheIndex(properties);
+        try {
+            CachedMcpServerIndex index = new CachedMcpServerIndex(configDetailService, namespaceOperationService,
+                    configQueryChainService, memoryCacheIndex, scheduledExecutor, true, 300);
+            ConfigInfo blurHit = new ConfigInfo();
+            blurHit.setDataId("foo-bar-id" + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX);
+            blurHit.setTenant(namespaceId);
+            Page<ConfigInfo> blurPage = new Page<>();
+            blurPage.setPageItems(List.of(blurHit));
+            blurPage.setTotalCount(1);
+            when(configDetailService.findConfigInfoPage(eq(Constants.MCP_LIST_SEARCH_BLUR), eq(1), eq(10),
+                    eq(Constants.ALL_PATTERN), eq(Constants.MCP_SERVER_VERSIONS_GROUP), eq(namespaceId),
+                    any())).thenReturn(blurPage);
+            Page<ConfigInfo> accuratePage = new Page<>();
+            accuratePage.setPageItems(new ArrayList<>());
+            when(configDetailService.findConfigInfoPage(eq(Constants.MCP_LIST_SEARCH_ACCURATE), eq(1), eq(10),
+                    isNull(), eq(Constants.MCP_SERVER_VERSIONS_GROUP), eq(namespaceId), any())).thenReturn(
+                    accuratePage);
+            
+            index.searchMcpServerByName(namespaceId, "foo", Constants.MCP_LIST_SEARCH_BLUR, 0, 10);
+            Page<McpServerIndexData> result = index.searchMcpServerByName(namespaceId, "foo",
+                    Constants.MCP_LIST_SEARCH_ACCURATE, 0, 10);
+            
+            assertEquals(0, result.getTotalCount());
+            assertTrue(result.getPageItems().isEmpty());
+            index.destroy();
+        } finally {
+            memoryCacheIndex.shutdown();
+        }
+    }
+    
+    @Test
+    void testRemoveCacheOnVersionConfigChange() {
+        final String namespaceId = "test-namespace";
+        final String mcpId = "test-id-123";
+        cachedIndex.onEvent(new LocalDataChangeEvent(
+                GroupKey2.getKey(mcpId + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX,
+                        Constants.MCP_SERVER_VERSIONS_GROUP, namespaceId)));
+        verify(cacheIndex).removeIndex(mcpId);
+        
+        cachedIndex.onEvent(new LocalDataChangeEvent(GroupKey2.getKey("other-id", "DEFAULT_GROUP", namespaceId)));
+        verify(cacheIndex, never()).removeIndex("other-id");
+    }
+    
+    @Test
+    void testBlurSearchFromIndexAfterSync() {
+        final String namespaceId = "test-namespace";
+        mockNamespace(namespaceId);
+        mockVersionConfigPage(namespaceId, "weather-id", "amap-id");
+        mockConfig(namespaceId, "weather-id" + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX,
+                "{\"id\":\"weather-id\",\"name\":\"weather-server\",\"description\":\"forecast\","
+                        + "\"latestPublishedVersion\":\"1.0.0\"}");
+        mockConfig(namespaceId, "amap-id" + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX,
+                "{\"id\":\"amap-id\",\"name\":\"amap-maps\",\"latestPublishedVersion\":\"1.0.0\"}");
+        mockConfig(namespaceId, "amap-id-1.0.0" + Constants.MCP_SERVER_TOOL_DATA_ID_SUFFIX,
+                "{\"tools\":[{\"name\":\"maps_weather\"}]}");
+        
+        cachedIndex.triggerCacheSync();
+        Page<McpServerIndexData> result = cachedIndex.searchMcpServerByName(namespaceId, "wether",
+                Constants.MCP_LIST_SEARCH_BLUR, 0, 10);
+        
+        assertEquals(2, result.getTotalCount());
+        assertEquals(List.of("amap-id", "weather-id"),
+                result.getPageItems().stream().map(McpServerIndexData::getId).toList());
+        verify(configDetailService).findConfigInfoPage(any(), anyInt(), anyInt(), any(), any(), any(), any());
+    }
+    
+    @Test
+    void testReindexOnConfigChange() {
+        final String namespaceId = "test-namespace";
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scheduledExecutor).execute(any(Runnable.class));
+        mockNamespace(namespaceId);
+        mockVersionConfigPage(namespaceId, "amap-id");
+        mockConfig(namespaceId, "amap-id" + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX,
+                "{\"id\":\"amap-id\",\"name\":\"amap-maps\",\"latestPublishedVersion\":\"1.0.0\"}");
+        cachedIndex.triggerCacheSync();
+        assertEquals(0, cachedIndex.searchMcpServerByName(namespaceId, "route", Constants.MCP_LIST_SEARCH_BLUR, 0,
+                10).getTotalCount());
+        
+        String toolsDataId = "amap-id-1.0.0" + Constants.MCP_SERVER_TOOL_DATA_ID_SUFFIX;
+        mockConfig(namespaceId, toolsDataId, "{\"tools\":[{\"name\":\"route_planning\"}]}");
+        cachedIndex.onEvent(new LocalDataChangeEvent(
+                GroupKey2.getKey(toolsDataId, Constants.MCP_SERVER_TOOL_GROUP, namespaceId)));
+        assertEquals(1, cachedIndex.searchMcpServerByName(namespaceId, "route", Constants.MCP_LIST_SEARCH_BLUR, 0,
+                10).getTotalCount());
+        
+        mockConfig(namespaceId, "amap-id" + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX, null);
+        cachedIndex.onEvent(new LocalDataChangeEvent(
+                GroupKey2.getKey("amap-id" + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX,
+                        Constants.MCP_SERVER_VERSIONS_GROUP, namespaceId)));
+        assertEquals(0, cachedIndex.searchMcpServerByName(namespaceId, "", Constants.MCP_LIST_SEARCH_BLUR, 0, 10)
+                .getTotalCount());
+    }
+    
+    private void mockNamespace(String namespaceId) {
+        com.alibaba.nacos.api.model.response.Namespace namespace = new com.alibaba.nacos.api.model.response.Namespace();
+        namespace.setNamespace(namespaceId);
+        when(namespaceOperationService.getNamespaceList()).thenReturn(List.of(namespace));
+    }
+    
+    private void mockVersionConfigPage(String namespaceId, String... mcpIds) {
+        List<ConfigInfo> configList = new ArrayList<>();
+        for (String each : mcpIds) {
+            ConfigInfo configInfo = new ConfigInfo();
+            configInfo.setDataId(each + Constants.MCP_SERVER_VERSION_DATA_ID_SUFFIX);
+            configInfo.setTenant(namespaceId);
+            configList.add(configInfo);
+        }
+        Page<ConfigInfo> page = new Page<>();
+        page.setPageItems(configList);
+        page.setTotalCount(configList.size());
+        when(configDetailService.findConfigInfoPage(eq(Constants.MCP_LIST_SEARCH_BLUR), eq(1), anyInt(),
+                eq(Constants.ALL_PATTERN), eq(Constants.MCP_SERVER_VERSIONS_GROUP), eq(namespaceId),
+                any())).thenReturn(page);
+    }
+    
+    private void mockConfig(String namespaceId, String dataId, String content) {
+        ConfigQueryChainResponse response = new ConfigQueryChainResponse();
+        response.setStatus(null == content ? ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_NOT_FOUND
+                : ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL);
+        response.setContent(content);
+        when(configQueryChainService.handle(argThat(
+                request -> null != request && dataId.equals(request.getDataId()) && namespaceId.equals(
+                        request.getTenant())))).thenReturn(response);
+    }
+    
     @Test
     void testCacheDisabled() {
         // 设置系统属性以禁用缓存
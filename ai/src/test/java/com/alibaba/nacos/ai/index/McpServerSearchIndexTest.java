@@ -0,0 +1,139 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.ai.index;
+
+import com.alibaba.nacos.ai.model.mcp.McpServerIndexData;
+import com.alibaba.nacos.api.model.Page;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for McpServerSearchIndex.
+ */
+class McpServerSearchIndexTest {
+    
+    private static final String NAMESPACE = "public";
+    
+    private McpServerSearchIndex searchIndex;
+    
+    @BeforeEach
+    void setUp() {
+        searchIndex = new McpServerSearchIndex();
+        searchIndex.replaceNamespace(NAMESPACE,
+                List.of(entry("id-weather", "weather-server", "Query weather forecast", List.of("get_forecast")),
+                        entry("id-amap", "amap-maps", "Map and route planning", List.of("maps_weather")),
+                        entry("id-github", "github", "Github repository tools", List.of("create_issue")),
+                        entry("id-weather-cn", "cn-weather", "China weather", Collections.emptyList())));
+    }
+    
+    @Test
+    void testNotReadyBeforeReplace() {
+        assertFalse(searchIndex.isReady("other"));
+        assertFalse(searchIndex.isReady(null));
+        assertTrue(searchIndex.isReady(NAMESPACE));
+        searchIndex.put(new McpServerSearchIndex.Entry("id", "other", "name", null, Collections.emptyList(), null));
+        assertFalse(searchIndex.isReady("other"));
+    }
+    
+    @Test
+    void testTokenize() {
+        assertEquals(List.of("maps", "weather", "v2"), McpServerSearchIndex.tokenize("Maps_Weather-v2"));
+        assertTrue(McpServerSearchIndex.tokenize(null).isEmpty());
+        McpServerSearchIndex.Entry entry = entry("id", "amap-maps", "Route planning", List.of("maps_weather"));
+        assertEquals(5, entry.getTokens().size());
+    }
+    
+    @Test
+    void testWithinOneEdit() {
+        assertTrue(McpServerSearchIndex.withinOneEdit("weather", "weather"));
+        assertTrue(McpServerSearchIndex.withinOneEdit("weather", "wether"));
+        assertTrue(McpServerSearchIndex.withinOneEdit("weather", "weathers"));
+        assertTrue(McpServerSearchIndex.withinOneEdit("weather", "weathex"));
+        assertFalse(McpServerSearchIndex.withinOneEdit("weather", "waether"));
+        assertFalse(McpServerSearchIndex.withinOneEdit("weather", "weath"));
+    }
+    
+    @Test
+    void testAccurateSearch() {
+        assertIds(List.of("id-github"), searchIndex.search(NAMESPACE, "github", true, 0, 10));
+        assertIds(Collections.emptyList(), searchIndex.search(NAMESPACE, "git", true, 0, 10));
+    }
+    
+    @Test
+    void testListAllOrderedByName() {
+        assertIds(List.of("id-amap", "id-weather-cn", "id-github", "id-weather"),
+                searchIndex.search(NAMESPACE, "", false, 0, 10));
+    }
+    
+    @Test
+    void testBlurSearchOrderedByMatchKind() {
+        // name prefix, name substring, then tool name token
+        assertIds(List.of("id-weather", "id-weather-cn", "id-amap"),
+                searchIndex.search(NAMESPACE, "weather", false, 0, 10));
+        // description token prefix
+        assertIds(List.of("id-amap"), searchIndex.search(NAMESPACE, "rout", false, 0, 10));
+        // every query token has to match
+        assertIds(List.of("id-github"), searchIndex.search(NAMESPACE, "github issue", false, 0, 10));
+    }
+    
+    @Test
+    void testFuzzySearch() {
+        assertIds(List.of("id-amap", "id-weather-cn", "id-weather"),
+                searchIndex.search(NAMESPACE, "wether", false, 0, 10));
+        assertIds(Collections.emptyList(), searchIndex.search(NAMESPACE, "gti", false, 0, 10));
+    }
+    
+    @Test
+    void testSearchWithPaging() {
+        Page<McpServerIndexData> page = searchIndex.search(NAMESPACE, "weather", false, 2, 2);
+        assertIds(List.of("id-amap"), page);
+        assertEquals(3, page.getTotalCount());
+        assertEquals(2, page.getPagesAvailable());
+        assertEquals(2, page.getPageNumber());
+    }
+    
+    @Test
+    void testPutAndRemove() {
+        searchIndex.put(entry("id-github", "gitlab", "Gitlab tools", List.of("create_issue")));
+        assertIds(Collections.emptyList(), searchIndex.search(NAMESPACE, "github", false, 0, 10));
+        assertIds(List.of("id-github"), searchIndex.search(NAMESPACE, "gitlab", true, 0, 10));
+        searchIndex.remove(NAMESPACE, "id-github");
+        assertIds(Collections.emptyList(), searchIndex.search(NAMESPACE, "issue", false, 0, 10));
+    }
+    
+    @Test
+    void testFindIdsByToolsDataId() {
+        assertEquals(List.of("id-github"), searchIndex.findIdsByToolsDataId(NAMESPACE, "id-github-tools"));
+        assertTrue(searchIndex.findIdsByToolsDataId("other", "id-github-tools").isEmpty());
+    }
+    
+    private static McpServerSearchIndex.Entry entry(String id, String name, String description,
+            List<String> toolNames) {
+        return new McpServerSearchIndex.Entry(id, NAMESPACE, name, description, toolNames, id + "-tools");
+    }
+    
+    private static void assertIds(List<String> expected, Page<McpServerIndexData> actual) {
+        assertEquals(expected, actual.getPageItems().stream().map(McpServerIndexData::getId).toList());
+    }
+}
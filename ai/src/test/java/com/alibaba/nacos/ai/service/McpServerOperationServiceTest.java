@@ -39,6 +39,7 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.form.ConfigFormV3;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
@@ -49,6 +50,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
@@ -60,10 +63,12 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
@@ -182,6 +187,36 @@ class McpServerOperationServiceTest {
         assertNotNull(actual.getToolSpec());
     }
     
+    @Test
+    void getMcpServerDetailFromCacheUntilConfigChanged() throws NacosException {
+        String id = mockId();
+        ConfigQueryChainResponse versionDataResponse = mockConfigQueryChainResponse(mockServerVersionInfo(id));
+        ConfigQueryChainResponse storageDataResponse = mockConfigQueryChainResponse(
+                mockStorageInfo(id, true, true, AiConstants.Mcp.MCP_PROTOCOL_STDIO));
+        when(configQueryChainService.handle(any(ConfigQueryChainRequest.class))).thenReturn(versionDataResponse,
+                storageDataResponse, versionDataResponse, storageDataResponse);
+        when(toolOperationService.getMcpTool(AiConstants.Mcp.MCP_DEFAULT_NAMESPACE,
+                McpConfigUtils.formatServerToolSpecDataId(id, "9.9.9"))).thenReturn(new McpToolSpecification());
+        try (MockedStatic<ConfigCacheService> configCacheService = Mockito.mockStatic(ConfigCacheService.class)) {
+            configCacheService.when(() -> ConfigCacheService.getContentMd5(anyString())).thenReturn("md5");
+            McpServerDetailInfo first = serverOperationService.getMcpServerDetail(
+                    AiConstants.Mcp.MCP_DEFAULT_NAMESPACE, id, null, null);
+            McpServerDetailInfo second = serverOperationService.getMcpServerDetail(
+                    AiConstants.Mcp.MCP_DEFAULT_NAMESPACE, id, null, null);
+            assertNotSame(first, second);
+            assertEquals("9.9.9", second.getVersion());
+            assertNotNull(second.getToolSpec());
+            verify(configQueryChainService, times(2)).handle(any(ConfigQueryChainRequest.class));
+            verify(toolOperationService, times(1)).getMcpTool(any(), any());
+            
+            configCacheService.when(() -> ConfigCacheService.getContentMd5(anyString())).thenReturn("newMd5");
+            McpServerDetailInfo third = serverOperationService.getMcpServerDetail(
+                    AiConstants.Mcp.MCP_DEFAULT_NAMESPACE, id, null, null);
+            assertEquals("9.9.9", third.getVersion());
+            verify(configQueryChainService, times(4)).handle(any(ConfigQueryChainRequest.class));
+        }
+    }
+    
     @Test
     void getMcpServerDetailByIdFoundSseTypeWithoutToolsWithNamespace() throws NacosException {
         String id = mockId();
@@ -103,6 +103,8 @@ public class PropertyKeyConst {
     
     public static final String NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE = "namingAsyncQuerySubscribeService";
     
+    public static final String NAMING_SHARED_EXECUTOR = "namingSharedExecutor";
+    
     public static final String REDO_DELAY_TIME = "redoDelayTime";
     
     public static final String REDO_DELAY_THREAD_COUNT = "redoDelayThreadCount";
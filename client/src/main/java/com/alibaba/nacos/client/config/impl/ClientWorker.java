@@ -85,7 +85,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -93,6 +92,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -129,9 +129,9 @@ public class ClientWorker implements Closeable {
     private static final String ENCRYPTED_DATA_KEY_PARAM = "encryptedDataKey";
     
     /**
-     * groupKey -> cacheData.
+     * groupKey -> cacheData. The concurrent map is updated in place, readers iterate it weakly consistent.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new ConcurrentHashMap<>());
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -318,12 +318,10 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.get().remove(groupKey);
             if (remove != null) {
                 decreaseTaskIdCount(remove.getTaskId());
             }
-            cacheMap.set(copy);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
@@ -401,9 +399,7 @@ public class ClientWorker implements Closeable {
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.get().put(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
@@ -455,9 +451,7 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.get().put(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
@@ -480,9 +474,7 @@ public class ClientWorker implements Closeable {
      */
     private void putCache(String key, CacheData cache) {
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.get().put(key, cache);
         }
     }
     
@@ -878,8 +870,8 @@ public class ClientWorker implements Closeable {
         @Override
         public void executeConfigListen() throws NacosException {
             
-            Map<String, List<CacheData>> listenCachesMap = new HashMap<>(16);
-            Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
+            Map<Integer, List<CacheData>> listenCachesMap = new HashMap<>(16);
+            Map<Integer, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
             for (CacheData cache : cacheMap.get().values()) {
@@ -901,15 +893,9 @@ public class ClientWorker implements Closeable {
                         continue;
                     }
                     
-                    if (!cache.isDiscard()) {
-                        List<CacheData> cacheDatas = listenCachesMap.computeIfAbsent(String.valueOf(cache.getTaskId()),
-                                k -> new LinkedList<>());
-                        cacheDatas.add(cache);
-                    } else {
-                        List<CacheData> cacheDatas = removeListenCachesMap.computeIfAbsent(
-                                String.valueOf(cache.getTaskId()), k -> new LinkedList<>());
-                        cacheDatas.add(cache);
-                    }
+                    Map<Integer, List<CacheData>> targetCachesMap = cache.isDiscard() ? removeListenCachesMap
+                            : listenCachesMap;
+                    targetCachesMap.computeIfAbsent(cache.getTaskId(), k -> new ArrayList<>()).add(cache);
                 }
                 
             }
@@ -1019,12 +1005,12 @@ public class ClientWorker implements Closeable {
             }
         }
         
-        private void checkRemoveListenCache(Map<String, List<CacheData>> removeListenCachesMap) throws NacosException {
+        private void checkRemoveListenCache(Map<Integer, List<CacheData>> removeListenCachesMap) throws NacosException {
             if (!removeListenCachesMap.isEmpty()) {
                 List<Future> listenFutures = new ArrayList<>();
                 
-                for (Map.Entry<String, List<CacheData>> entry : removeListenCachesMap.entrySet()) {
-                    String taskId = entry.getKey();
+                for (Map.Entry<Integer, List<CacheData>> entry : removeListenCachesMap.entrySet()) {
+                    String taskId = String.valueOf(entry.getKey());
                     RpcClient rpcClient = ensureRpcClient(taskId);
                     
                     ExecutorService executorService = ensureSyncExecutor(taskId);
@@ -1069,13 +1055,13 @@ public class ClientWorker implements Closeable {
         }
         
         @SuppressWarnings("PMD.MethodTooLongRule")
-        private boolean checkListenCache(Map<String, List<CacheData>> listenCachesMap) throws NacosException {
+        private boolean checkListenCache(Map<Integer, List<CacheData>> listenCachesMap) throws NacosException {
             
             final AtomicBoolean hasChangedKeys = new AtomicBoolean(false);
             if (!listenCachesMap.isEmpty()) {
                 List<Future> listenFutures = new ArrayList<>();
-                for (Map.Entry<String, List<CacheData>> entry : listenCachesMap.entrySet()) {
-                    String taskId = entry.getKey();
+                for (Map.Entry<Integer, List<CacheData>> entry : listenCachesMap.entrySet()) {
+                    String taskId = String.valueOf(entry.getKey());
                     RpcClient rpcClient = ensureRpcClient(taskId);
                     
                     ExecutorService executorService = ensureSyncExecutor(taskId);
@@ -22,6 +22,7 @@ import com.alibaba.nacos.client.naming.cache.InstancesDiffer;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
 import com.alibaba.nacos.client.naming.event.InstancesDiff;
+import com.alibaba.nacos.client.naming.utils.SharedNamingExecutor;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.lifecycle.Closeable;
 import com.alibaba.nacos.common.notify.NotifyCenter;
@@ -39,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -59,6 +61,8 @@ public class FailoverReactor implements Closeable {
     
     private final ScheduledExecutorService executorService;
     
+    private ScheduledFuture<?> refreshFuture;
+    
     private final InstancesDiffer instancesDiffer;
     
     private FailoverDataSource failoverDataSource;
@@ -66,6 +70,10 @@ public class FailoverReactor implements Closeable {
     private String notifierEventScope;
     
     public FailoverReactor(ServiceInfoHolder serviceInfoHolder, String notifierEventScope) {
+        this(serviceInfoHolder, notifierEventScope, false);
+    }
+    
+    public FailoverReactor(ServiceInfoHolder serviceInfoHolder, String notifierEventScope, boolean sharedExecutor) {
         this.serviceInfoHolder = serviceInfoHolder;
         this.notifierEventScope = notifierEventScope;
         this.instancesDiffer = new InstancesDiffer();
@@ -75,9 +83,9 @@ public class FailoverReactor implements Closeable {
             NAMING_LOGGER.info("FailoverDataSource type is {}", dataSource.getClass());
             break;
         }
-        // init executorService
-        this.executorService = new ScheduledThreadPoolExecutor(1,
-                new NameThreadFactory("com.alibaba.nacos.naming.failover"));
+        // init executorService, the shared one is used instead when enabled
+        this.executorService = sharedExecutor ? null
+                : new ScheduledThreadPoolExecutor(1, new NameThreadFactory("com.alibaba.nacos.naming.failover"));
         this.init();
     }
     
@@ -85,7 +93,12 @@ public class FailoverReactor implements Closeable {
      * Init.
      */
     public void init() {
-        executorService.scheduleWithFixedDelay(new FailoverSwitchRefresher(), 0L, 5000L, TimeUnit.MILLISECONDS);
+        if (null == executorService) {
+            refreshFuture = SharedNamingExecutor.scheduleWithFixedDelay(new FailoverSwitchRefresher(), 0L, 5000L,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            executorService.scheduleWithFixedDelay(new FailoverSwitchRefresher(), 0L, 5000L, TimeUnit.MILLISECONDS);
+        }
     }
     
     class FailoverSwitchRefresher implements Runnable {
@@ -180,7 +193,13 @@ public class FailoverReactor implements Closeable {
     public void shutdown() throws NacosException {
         String className = this.getClass().getName();
         NAMING_LOGGER.info("{} do shutdown begin", className);
-        ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        if (null == executorService) {
+            if (null != refreshFuture) {
+                refreshFuture.cancel(false);
+            }
+        } else {
+            ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        }
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
     
@@ -26,6 +26,7 @@ import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
 import com.alibaba.nacos.client.naming.event.InstancesDiff;
 import com.alibaba.nacos.client.naming.utils.CacheDirUtil;
+import com.alibaba.nacos.client.naming.utils.SharedNamingExecutor;
 import com.alibaba.nacos.common.lifecycle.Closeable;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.utils.ConvertUtils;
@@ -67,7 +68,8 @@ public class ServiceInfoHolder implements Closeable {
         } else {
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
         }
-        this.failoverReactor = new FailoverReactor(this, notifierEventScope);
+        this.failoverReactor = new FailoverReactor(this, notifierEventScope,
+                SharedNamingExecutor.isEnabled(properties));
         this.pushEmptyProtection = isPushEmptyProtect(properties);
         this.notifierEventScope = notifierEventScope;
         this.enableClientMetrics = Boolean.parseBoolean(
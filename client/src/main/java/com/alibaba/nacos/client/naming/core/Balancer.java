@@ -18,12 +18,10 @@ package com.alibaba.nacos.client.naming.core;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
-import com.alibaba.nacos.client.naming.utils.Chooser;
-import com.alibaba.nacos.client.naming.utils.Pair;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
 
@@ -64,26 +62,58 @@ public class Balancer {
     /**
      * Return one host from the host list by random-weight.
      *
+     * <p>Called for every selected instance, so the cumulative weights are walked in place instead of building a
+     * {@code Chooser} per call. Healthy hosts with non-positive weight are never chosen.
+     *
      * @param hosts The list of the host.
      * @return The random-weight result of the host
      */
     protected static Instance getHostByRandomWeight(List<Instance> hosts) {
-        NAMING_LOGGER.debug("entry randomWithWeight");
         if (hosts == null || hosts.size() == 0) {
             NAMING_LOGGER.debug("hosts == null || hosts.size() == 0");
             return null;
         }
-        NAMING_LOGGER.debug("new Chooser");
-        List<Pair<Instance>> hostsWithWeight = new ArrayList<>();
+        double weightSum = 0;
+        Instance last = null;
+        for (Instance host : hosts) {
+            double weight = effectiveWeight(host);
+            if (weight > 0) {
+                weightSum += weight;
+                last = host;
+            }
+        }
+        if (last == null) {
+            throw new IllegalStateException("Cumulative Weight wrong , the array length is equal to 0.");
+        }
+        double random = ThreadLocalRandom.current().nextDouble(0, weightSum);
         for (Instance host : hosts) {
-            if (host.isHealthy()) {
-                hostsWithWeight.add(new Pair<Instance>(host, host.getWeight()));
+            double weight = effectiveWeight(host);
+            if (weight > 0) {
+                random -= weight;
+                if (random < 0) {
+                    return host;
+                }
             }
         }
-        NAMING_LOGGER.debug("for (Host host : hosts)");
-        Chooser<String, Instance> vipChooser = new Chooser<>("www.taobao.com");
-        vipChooser.refresh(hostsWithWeight);
-        NAMING_LOGGER.debug("vipChooser.refresh");
-        return vipChooser.randomWithWeight();
+        // floating point rounding, fall back to the last candidate.
+        return last;
+    }
+    
+    private static double effectiveWeight(Instance host) {
+        if (!host.isHealthy()) {
+            return 0;
+        }
+        double weight = host.getWeight();
+        // same as Chooser: skip non-positive weight first, so negative infinity is never selected.
+        if (weight <= 0) {
+            return 0;
+        }
+        if (Double.isNaN(weight)) {
+            return 1.0D;
+        }
+        if (weight == Double.POSITIVE_INFINITY) {
+            return 10000.0D;
+        }
+        return weight;
     }
 }
@@ -33,6 +33,7 @@ import com.alibaba.nacos.client.naming.event.InstancesChangeNotifier;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
 import com.alibaba.nacos.client.naming.remote.http.NamingHttpClientManager;
 import com.alibaba.nacos.client.naming.remote.http.NamingHttpClientProxy;
+import com.alibaba.nacos.client.naming.utils.SharedNamingExecutor;
 import com.alibaba.nacos.client.security.SecurityProxy;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.utils.CollectionUtils;
@@ -41,6 +42,7 @@ import com.alibaba.nacos.common.utils.ThreadUtils;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -68,6 +70,8 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
     
     private ScheduledExecutorService executorService;
     
+    private ScheduledFuture<?> securityRefreshFuture;
+    
     public NamingClientProxyDelegate(String namespace, ServiceInfoHolder serviceInfoHolder,
             NacosClientProperties properties, InstancesChangeNotifier changeNotifier,
             NamingFuzzyWatchServiceListHolder namingFuzzyWatchServiceListHolder) throws NacosException {
@@ -85,10 +89,16 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
     }
     
     private void initSecurityProxy(NacosClientProperties properties) {
-        this.executorService = new ScheduledThreadPoolExecutor(1,
-                new NameThreadFactory("com.alibaba.nacos.client.naming.security"));
         final Properties nacosClientPropertiesView = properties.asProperties();
         this.securityProxy.login(nacosClientPropertiesView);
+        if (SharedNamingExecutor.isEnabled(properties)) {
+            this.securityRefreshFuture = SharedNamingExecutor.scheduleLoginWithFixedDelay(
+                    () -> securityProxy.login(nacosClientPropertiesView), 0, SECURITY_INFO_REFRESH_INTERVAL_MILLS,
+                    TimeUnit.MILLISECONDS);
+            return;
+        }
+        this.executorService = new ScheduledThreadPoolExecutor(1,
+                new NameThreadFactory("com.alibaba.nacos.client.naming.security"));
         this.executorService.scheduleWithFixedDelay(() -> securityProxy.login(nacosClientPropertiesView), 0,
                 SECURITY_INFO_REFRESH_INTERVAL_MILLS, TimeUnit.MILLISECONDS);
     }
@@ -211,7 +221,12 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         httpClientProxy.shutdown();
         grpcClientProxy.shutdown();
         securityProxy.shutdown();
-        ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        if (null != securityRefreshFuture) {
+            securityRefreshFuture.cancel(false);
+        }
+        if (null != executorService) {
+            ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        }
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
 }
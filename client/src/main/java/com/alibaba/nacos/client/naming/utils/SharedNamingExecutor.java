@@ -0,0 +1,125 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.utils;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.ConvertUtils;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler shared by all naming services of one JVM for light periodic tasks.
+ *
+ * <p>Enabled by {@link PropertyKeyConst#NAMING_SHARED_EXECUTOR}. Tasks scheduled here must be cancelled by their
+ * owner through the returned future, the schedulers themselves are never shut down.
+ *
+ * <p>Login refresh blocks on http requests to the auth server, so it runs on its own scheduler and an unreachable
+ * auth server can not delay the failover refresh of other naming services. The service info polling of
+ * {@code ServiceInfoUpdateService} is not shared: it blocks on queries to the server as well and its thread count is
+ * configured per naming service by {@link PropertyKeyConst#NAMING_POLLING_THREAD_COUNT}.
+ *
+ * @author Nacos
+ */
+public class SharedNamingExecutor {
+    
+    private static final int THREAD_COUNT = 1;
+    
+    private static final int LOGIN_THREAD_COUNT = 2;
+    
+    private static volatile ScheduledExecutorService executorService;
+    
+    private static volatile ScheduledExecutorService loginExecutorService;
+    
+    private SharedNamingExecutor() {
+    }
+    
+    /**
+     * Whether the naming service built by properties should use the shared scheduler.
+     *
+     * @param properties client properties
+     * @return {@code true} if enabled, default {@code false}
+     */
+    public static boolean isEnabled(NacosClientProperties properties) {
+        if (properties == null || !properties.containsKey(PropertyKeyConst.NAMING_SHARED_EXECUTOR)) {
+            return false;
+        }
+        return ConvertUtils.toBoolean(properties.getProperty(PropertyKeyConst.NAMING_SHARED_EXECUTOR), false);
+    }
+    
+    /**
+     * Schedule a task with fixed delay on the shared scheduler.
+     *
+     * @param task         task to run
+     * @param initialDelay initial delay
+     * @param delay        delay between two runs
+     * @param unit         time unit of delays
+     * @return future to cancel the task
+     */
+    public static ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay,
+            TimeUnit unit) {
+        return getExecutorService().scheduleWithFixedDelay(task, initialDelay, delay, unit);
+    }
+    
+    /**
+     * Schedule a login refresh task with fixed delay on the shared login scheduler.
+     *
+     * @param task         login task to run
+     * @param initialDelay initial delay
+     * @param delay        delay between two runs
+     * @param unit         time unit of delays
+     * @return future to cancel the task
+     */
+    public static ScheduledFuture<?> scheduleLoginWithFixedDelay(Runnable task, long initialDelay, long delay,
+            TimeUnit unit) {
+        return getLoginExecutorService().scheduleWithFixedDelay(task, initialDelay, delay, unit);
+    }
+    
+    private static ScheduledExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (SharedNamingExecutor.class) {
+                if (executorService == null) {
+                    executorService = createExecutor(THREAD_COUNT, "com.alibaba.nacos.client.naming.shared");
+                }
+            }
+        }
+        return executorService;
+    }
+    
+    private static ScheduledExecutorService getLoginExecutorService() {
+        if (loginExecutorService == null) {
+            synchronized (SharedNamingExecutor.class) {
+                if (loginExecutorService == null) {
+                    loginExecutorService = createExecutor(LOGIN_THREAD_COUNT,
+                            "com.alibaba.nacos.client.naming.shared.security");
+                }
+            }
+        }
+        return loginExecutorService;
+    }
+    
+    private static ScheduledExecutorService createExecutor(int threadCount, String threadName) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threadCount,
+                new NameThreadFactory(threadName));
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
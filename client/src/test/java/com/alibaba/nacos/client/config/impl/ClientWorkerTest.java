@@ -49,6 +49,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -60,9 +61,11 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -582,6 +585,56 @@ class ClientWorkerTest {
         
     }
     
+    @Test
+    void testExecuteConfigListenOnlyInconsistentCaches() throws Exception {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        
+        String group = "group123";
+        String tenant = "tenant122324";
+        String dataIdConsistent = "dataIdConsistent" + System.currentTimeMillis();
+        CacheData cacheConsistent = normalNotConsistentCache(filter, agent.getName(), dataIdConsistent, group, tenant);
+        cacheConsistent.setConsistentWithServer(true);
+        String dataId0 = "dataIdTask0" + System.currentTimeMillis();
+        CacheData cacheTask0 = normalNotConsistentCache(filter, agent.getName(), dataId0, group, tenant);
+        String dataId1 = "dataIdTask1" + System.currentTimeMillis();
+        CacheData cacheTask1 = normalNotConsistentCache(filter, agent.getName(), dataId1, group, tenant);
+        cacheTask1.setTaskId(1);
+        
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
+        Mockito.when(cacheDataMapMocked.values()).thenReturn(Arrays.asList(cacheConsistent, cacheTask0, cacheTask1));
+        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheMapMocked);
+        
+        RpcClient rpcClientInner = Mockito.mock(RpcClient.class);
+        Mockito.when(rpcClientInner.isWaitInitiated()).thenReturn(false);
+        rpcClientFactoryMockedStatic.when(() -> RpcClientFactory.createClient(anyString(), any(ConnectionType.class),
+                any(GrpcClientConfig.class))).thenReturn(rpcClientInner);
+        Mockito.when(rpcClientInner.request(any(ConfigBatchListenRequest.class)))
+                .thenReturn(new ConfigChangeBatchListenResponse());
+        (clientWorker.getAgent()).executeConfigListen();
+        
+        // one batch per task id, and the consistent cache is not listened again before the all sync.
+        ArgumentCaptor<ConfigBatchListenRequest> captor = ArgumentCaptor.forClass(ConfigBatchListenRequest.class);
+        Mockito.verify(rpcClientInner, Mockito.times(2)).request(captor.capture());
+        Set<String> listenDataIds = new HashSet<>();
+        for (ConfigBatchListenRequest request : captor.getAllValues()) {
+            assertEquals(1, request.getConfigListenContexts().size());
+            listenDataIds.add(request.getConfigListenContexts().get(0).getDataId());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(dataId0, dataId1)), listenDataIds);
+        assertTrue(cacheTask0.isConsistentWithServer());
+        assertTrue(cacheTask1.isConsistentWithServer());
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -40,11 +40,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +85,17 @@ class FailoverReactorTest {
         
     }
     
+    @Test
+    void testShutdownWithSharedExecutor() throws NacosException {
+        FailoverReactor sharedReactor = new FailoverReactor(holder, UUID.randomUUID().toString(), true);
+        assertNull(ReflectUtils.getFieldValue(sharedReactor, "executorService"));
+        ScheduledFuture<?> refreshFuture = (ScheduledFuture<?>) ReflectUtils.getFieldValue(sharedReactor,
+                "refreshFuture");
+        assertFalse(refreshFuture.isCancelled());
+        sharedReactor.shutdown();
+        assertTrue(refreshFuture.isCancelled());
+    }
+    
     @Test
     void testGetService() throws NacosException {
         ServiceInfo info = failoverReactor.getService("aa@@bb");
@@ -25,6 +25,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -45,6 +46,66 @@ class BalancerTest {
         assertEquals(instance1, actual);
     }
     
+    @Test
+    void testGetHostByRandomWeightSkipUnavailable() {
+        List<Instance> list = new ArrayList<>();
+        Instance unhealthy = new Instance();
+        unhealthy.setHealthy(false);
+        list.add(unhealthy);
+        Instance zeroWeight = new Instance();
+        zeroWeight.setWeight(0);
+        list.add(zeroWeight);
+        Instance available = new Instance();
+        available.setWeight(2);
+        list.add(available);
+        for (int i = 0; i < 100; i++) {
+            assertSame(available, Balancer.getHostByRandomWeight(list));
+        }
+    }
+    
+    @Test
+    void testGetHostByRandomWeightSkipNegativeInfinity() {
+        List<Instance> list = new ArrayList<>();
+        Instance negativeInfinity = new Instance();
+        negativeInfinity.setWeight(Double.NEGATIVE_INFINITY);
+        list.add(negativeInfinity);
+        Instance available = new Instance();
+        available.setWeight(1);
+        list.add(available);
+        for (int i = 0; i < 100; i++) {
+            assertSame(available, Balancer.getHostByRandomWeight(list));
+        }
+        list.remove(available);
+        assertThrows(IllegalStateException.class, () -> Balancer.getHostByRandomWeight(list));
+    }
+    
+    @Test
+    void testGetHostByRandomWeightNoAvailable() {
+        List<Instance> list = new ArrayList<>();
+        Instance unhealthy = new Instance();
+        unhealthy.setHealthy(false);
+        list.add(unhealthy);
+        assertThrows(IllegalStateException.class, () -> Balancer.getHostByRandomWeight(list));
+    }
+    
+    @Test
+    void testGetHostByRandomWeightDistribution() {
+        List<Instance> list = new ArrayList<>();
+        Instance light = new Instance();
+        light.setWeight(1);
+        list.add(light);
+        Instance heavy = new Instance();
+        heavy.setWeight(9);
+        list.add(heavy);
+        int heavyCount = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (Balancer.getHostByRandomWeight(list) == heavy) {
+                heavyCount++;
+            }
+        }
+        assertTrue(heavyCount > 8500 && heavyCount < 9500);
+    }
+    
     @Test
     void testSelectHost() {
         List<Instance> hosts = new ArrayList<>();
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.utils;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SharedNamingExecutorTest {
+    
+    @Test
+    void testIsEnabled() {
+        assertFalse(SharedNamingExecutor.isEnabled(null));
+        Properties properties = new Properties();
+        assertFalse(SharedNamingExecutor.isEnabled(NacosClientProperties.PROTOTYPE.derive(properties)));
+        properties.setProperty(PropertyKeyConst.NAMING_SHARED_EXECUTOR, "true");
+        assertTrue(SharedNamingExecutor.isEnabled(NacosClientProperties.PROTOTYPE.derive(properties)));
+    }
+    
+    @Test
+    void testScheduleWithFixedDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        ScheduledFuture<?> future = SharedNamingExecutor.scheduleWithFixedDelay(latch::countDown, 0L, 10L,
+                TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        future.cancel(false);
+        assertTrue(future.isCancelled());
+    }
+    
+    @Test
+    void testBlockedLoginNotDelayFailoverRefresh() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        ScheduledFuture<?> loginFuture = SharedNamingExecutor.scheduleLoginWithFixedDelay(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }, 0L, 10L, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(2);
+        ScheduledFuture<?> future = SharedNamingExecutor.scheduleWithFixedDelay(latch::countDown, 0L, 10L,
+                TimeUnit.MILLISECONDS);
+        try {
+            assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        } finally {
+            blocked.countDown();
+            loginFuture.cancel(false);
+            future.cancel(false);
+        }
+    }
+}
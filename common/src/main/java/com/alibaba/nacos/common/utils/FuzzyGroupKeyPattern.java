@@ -102,13 +102,88 @@ public class FuzzyGroupKeyPattern {
         if (StringUtils.isBlank(namespace)) {
             namespace = DEFAULT_NAMESPACE_ID;
         }
-        String[] splitPatterns = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
-        return splitPatterns[0].equals(namespace) && itemMatched(splitPatterns[1], group) && itemMatched(
-                splitPatterns[2], resourceName);
+        // called for every pattern on every change, so the pattern is matched in place instead of split.
+        int groupStart = groupKeyPattern.indexOf(FUZZY_WATCH_PATTERN_SPLITTER);
+        if (groupStart < 0) {
+            return false;
+        }
+        groupStart += FUZZY_WATCH_PATTERN_SPLITTER.length();
+        int groupEnd = groupKeyPattern.indexOf(FUZZY_WATCH_PATTERN_SPLITTER, groupStart);
+        if (groupEnd < 0) {
+            return false;
+        }
+        int resourceStart = groupEnd + FUZZY_WATCH_PATTERN_SPLITTER.length();
+        int resourceEnd = groupKeyPattern.indexOf(FUZZY_WATCH_PATTERN_SPLITTER, resourceStart);
+        if (resourceEnd < 0) {
+            resourceEnd = groupKeyPattern.length();
+        }
+        int namespaceLength = groupStart - FUZZY_WATCH_PATTERN_SPLITTER.length();
+        return namespace.length() == namespaceLength && groupKeyPattern.startsWith(namespace) && itemMatched(
+                groupKeyPattern, groupStart, groupEnd, group) && itemMatched(groupKeyPattern, resourceStart,
+                resourceEnd, resourceName);
     }
     
     public static String getNamespaceFromPattern(String groupKeyPattern) {
-        return groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER)[0];
+        int index = groupKeyPattern.indexOf(FUZZY_WATCH_PATTERN_SPLITTER);
+        return index < 0 ? groupKeyPattern : groupKeyPattern.substring(0, index);
+    }
+    
+    /**
+     * check pattern in range [start, end) of groupKeyPattern matched the resource.
+     *
+     * @param groupKeyPattern group key pattern.
+     * @param start           start index of the pattern item, inclusive.
+     * @param end             end index of the pattern item, exclusive.
+     * @param resource        resource to check.
+     * @return matched or not.
+     */
+    private static boolean itemMatched(String groupKeyPattern, int start, int end, String resource) {
+        int length = end - start;
+        int firstWildcard = groupKeyPattern.indexOf(ALL_PATTERN, start);
+        
+        //accurate match without *
+        if (firstWildcard < 0 || firstWildcard >= end) {
+            return resource != null && resource.length() == length && resource.regionMatches(0, groupKeyPattern,
+                    start, length);
+        }
+        
+        //match for '*' pattern
+        if (length == ALL_PATTERN.length()) {
+            return true;
+        }
+        
+        boolean leading = firstWildcard == start;
+        boolean trailing = groupKeyPattern.startsWith(ALL_PATTERN, end - ALL_PATTERN.length());
+        int innerStart = leading ? start + ALL_PATTERN.length() : start;
+        int innerEnd = trailing ? end - ALL_PATTERN.length() : end;
+        int innerWildcard = groupKeyPattern.indexOf(ALL_PATTERN, innerStart);
+        if (innerWildcard >= 0 && innerWildcard < innerEnd) {
+            // '*' in the middle of the item, keep the original semantic which drops all '*'.
+            return itemMatched(groupKeyPattern.substring(start, end), resource);
+        }
+        if (resource == null || !(leading || trailing)) {
+            return false;
+        }
+        int innerLength = innerEnd - innerStart;
+        
+        //match for *{string}*
+        if (leading && trailing) {
+            for (int i = 0; i + innerLength <= resource.length(); i++) {
+                if (resource.regionMatches(i, groupKeyPattern, innerStart, innerLength)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        //match for postfix match *{string}
+        if (leading) {
+            return resource.length() >= innerLength && resource.regionMatches(resource.length() - innerLength,
+                    groupKeyPattern, innerStart, innerLength);
+        }
+        
+        //match for prefix match {string}*
+        return resource.regionMatches(0, groupKeyPattern, innerStart, innerLength);
     }
     
     /**
@@ -19,6 +19,8 @@ package com.alibaba.nacos.common.utils;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * GroupKeyPatternUtilsTest.
@@ -39,5 +41,22 @@ public class FuzzyGroupKeyPatternTest {
         assertEquals("exampleNamespace>>exampleGroup>>examplePattern*", groupKeyPattern);
     }
     
+    @Test
+    public void testMatchPattern() {
+        assertTrue(FuzzyGroupKeyPattern.matchPattern("ns>>group>>data*", "dataId", "group", "ns"));
+        assertTrue(FuzzyGroupKeyPattern.matchPattern("ns>>*>>*Id", "dataId", "group", "ns"));
+        assertTrue(FuzzyGroupKeyPattern.matchPattern("ns>>gr*>>*taI*", "dataId", "group", "ns"));
+        assertTrue(FuzzyGroupKeyPattern.matchPattern("public>>group>>dataId", "dataId", "group", null));
+        assertFalse(FuzzyGroupKeyPattern.matchPattern("ns>>group>>dataId", "dataId", "group", "ns1"));
+        assertFalse(FuzzyGroupKeyPattern.matchPattern("ns1>>group>>dataId", "dataId", "group", "ns"));
+        assertFalse(FuzzyGroupKeyPattern.matchPattern("ns>>group>>data", "dataId", "group", "ns"));
+        assertFalse(FuzzyGroupKeyPattern.matchPattern("ns>>group>>*Ids", "dataId", "group", "ns"));
+        assertFalse(FuzzyGroupKeyPattern.matchPattern("ns>>group>>da*Id", "dataId", "group", "ns"));
+        assertFalse(FuzzyGroupKeyPattern.matchPattern("ns>>group", "dataId", "group", "ns"));
+    }
+    
+    @Test
+    public void testGetNamespaceFromPattern() {
+        assertEquals("ns", FuzzyGroupKeyPattern.getNamespaceFromPattern("ns>>group>>data*"));
+    }
 }
-
@@ -27,6 +27,8 @@ import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.service.capacity.CapacityService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -35,6 +37,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.constant.Constants.LIMIT_ERROR_CODE;
 
@@ -55,6 +58,18 @@ public class CapacityManagementAspect {
     private static final String DELETE_CONFIG =
             "execution(* com.alibaba.nacos.config.server.service.ConfigOperationService.deleteConfig(..))";
 
+    /**
+     * Capacity used by content size check of update operations is cached for a short time, size limits rarely change
+     * while updates are the most frequent publish operations.
+     */
+    private static final long SIZE_CHECK_CAPACITY_CACHE_MILLS = 10000L;
+    
+    private static final int SIZE_CHECK_CAPACITY_CACHE_MAX_COUNT = 10000;
+    
+    private final Cache<String, CapacityCacheItem> sizeCheckCapacityCache = CacheBuilder.newBuilder()
+            .maximumSize(SIZE_CHECK_CAPACITY_CACHE_MAX_COUNT)
+            .expireAfterWrite(SIZE_CHECK_CAPACITY_CACHE_MILLS, TimeUnit.MILLISECONDS).build();
+    
     private final CapacityService capacityService;
 
     private final ConfigInfoPersistService configInfoPersistService;
@@ -110,7 +125,7 @@ public class CapacityManagementAspect {
         }
         try {
             boolean hasTenant = StringUtils.isNotBlank(namespaceId);
-            Capacity capacity = getCapacity(group, namespaceId, hasTenant);
+            Capacity capacity = getCapacityForSizeCheck(group, namespaceId, hasTenant);
             if (isSizeLimited(group, namespaceId, getCurrentSize(content), hasTenant, false, capacity)) {
                 throw new NacosException(ErrorCode.OVER_MAX_SIZE.getCode(),
                     String.format("Configuration content size limit exceeded [group=%s, namespaceId=%s].", group, namespaceId));
@@ -347,6 +362,17 @@ public class CapacityManagementAspect {
         return capacity;
     }
     
+    private Capacity getCapacityForSizeCheck(String group, String namespaceId, boolean hasTenant) {
+        String cacheKey = hasTenant ? "tenant@" + namespaceId : "group@" + group;
+        CapacityCacheItem cacheItem = sizeCheckCapacityCache.getIfPresent(cacheKey);
+        if (cacheItem != null) {
+            return cacheItem.capacity;
+        }
+        Capacity capacity = getCapacity(group, namespaceId, hasTenant);
+        sizeCheckCapacityCache.put(cacheKey, new CapacityCacheItem(capacity));
+        return capacity;
+    }
+    
     private boolean isSizeLimited(String group, String namespaceId, int currentSize, boolean hasTenant, boolean isAggr,
             Capacity capacity) {
         int defaultMaxSize = getDefaultMaxSize(isAggr);
@@ -416,6 +442,18 @@ public class CapacityManagementAspect {
         }
     }
     
+    /**
+     * Wrapper of capacity, a missing capacity is cached as well.
+     */
+    private static class CapacityCacheItem {
+        
+        private final Capacity capacity;
+        
+        CapacityCacheItem(Capacity capacity) {
+            this.capacity = capacity;
+        }
+    }
+    
     /**
      * limit type.
      *
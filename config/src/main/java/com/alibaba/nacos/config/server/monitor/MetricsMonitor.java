@@ -202,6 +202,11 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "configNotify");
     }
     
+    public static Counter getLongPollingRejectCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_monitor_counter", "module", "config", "name", "longPollingReject");
+    }
+    
     public static Counter getUnhealthException() {
         return NacosMeterRegistryCenter
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "unhealth");
@@ -33,6 +33,7 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -409,28 +410,37 @@ public class ConfigCacheService {
         if (item == null) {
             return NULL;
         }
-        if (connLabels == null && StringUtils.isNotBlank(ip)) {
-            connLabels = new HashMap<>(4);
+        List<ConfigCacheGray> sortConfigGrays = item.getSortConfigGrays();
+        if (sortConfigGrays != null && !sortConfigGrays.isEmpty()) {
+            Map<String, String> grayLabels = buildGrayLabels(ip, tag, connLabels);
+            if (grayLabels != null && !grayLabels.isEmpty()) {
+                for (ConfigCacheGray entry : sortConfigGrays) {
+                    if (entry.match(grayLabels)) {
+                        return entry.getMd5();
+                    }
+                }
+            }
         }
-        if (connLabels == null && StringUtils.isNotBlank(tag)) {
+        String md5 = item.getConfigCache().getMd5();
+        return md5 == null ? NULL : md5;
+    }
+    
+    /**
+     * Only called for configs with gray rules, most listen checks return the formal md5 without touching labels.
+     */
+    private static Map<String, String> buildGrayLabels(String ip, String tag, Map<String, String> connLabels) {
+        boolean hasIp = StringUtils.isNotBlank(ip);
+        boolean hasTag = StringUtils.isNotBlank(tag);
+        if (connLabels == null && (hasIp || hasTag)) {
             connLabels = new HashMap<>(4);
         }
-        
-        if (StringUtils.isNotBlank(ip)) {
+        if (hasIp) {
             connLabels.put(CLIENT_IP, ip);
         }
-        if (StringUtils.isNotBlank(tag)) {
+        if (hasTag) {
             connLabels.put(VIPSERVER_TAG, tag);
         }
-        if (item.getSortConfigGrays() != null && connLabels != null && !connLabels.isEmpty()) {
-            for (ConfigCacheGray entry : item.getSortConfigGrays()) {
-                if (entry.match(connLabels)) {
-                    return entry.getMd5();
-                }
-            }
-        }
-        String md5 = item.getConfigCache().getMd5();
-        return md5 == null ? NULL : md5;
+        return connLabels;
     }
     
     private static void updateGrayRule(String groupKey, String grayName, String grayRule, long lastModifiedTs,
@@ -41,15 +41,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.alibaba.nacos.config.server.utils.LogUtil.MEMORY_LOG;
 import static com.alibaba.nacos.config.server.utils.LogUtil.PULL_LOG;
@@ -75,7 +75,7 @@ public class LongPollingService {
         SampleResult sampleResult = new SampleResult();
         Map<String, String> lisentersGroupkeyStatus = new HashMap<>(50);
         
-        for (ClientLongPolling clientLongPolling : allSubs) {
+        for (ClientLongPolling clientLongPolling : getSubscribers(groupKey)) {
             if (clientLongPolling.clientMd5Map.containsKey(groupKey)) {
                 lisentersGroupkeyStatus.put(clientLongPolling.ip, clientLongPolling.clientMd5Map.get(groupKey).getMd5());
             }
@@ -201,6 +201,14 @@ public class LongPollingService {
                     1000L + new Random().nextInt(2000), TimeUnit.MILLISECONDS);
             return;
         }
+        String holdRejectMessage = reserveHoldCapacity(ip);
+        if (null != holdRejectMessage) {
+            MetricsMonitor.getLongPollingRejectCounter().increment();
+            RpcScheduledExecutor.CONTROL_SCHEDULER.schedule(
+                    () -> generate503Response(asyncContext, rsp, holdRejectMessage),
+                    1000L + new Random().nextInt(2000), TimeUnit.MILLISECONDS);
+            return;
+        }
         
         String appName = req.getHeader(RequestUtil.CLIENT_APPNAME_HEADER);
         String tag = req.getHeader("Vipserver-Tag");
@@ -223,13 +231,56 @@ public class LongPollingService {
         return checkResponse;
     }
     
+    /**
+     * Reserve the capacity to hold one more long polling request from the ip, the counts are increased and compared in
+     * one step so that concurrent requests can not exceed the limits. The reservation is released when the subscriber
+     * is removed.
+     *
+     * @param ip client ip
+     * @return reject message, {@code null} if the capacity is reserved.
+     */
+    String reserveHoldCapacity(String ip) {
+        int maxHoldCount = SwitchService.getSwitchInteger(MAX_LONG_POLLING_HOLD_COUNT, 0);
+        int currentHoldCount = holdCount.incrementAndGet();
+        if (maxHoldCount > 0 && currentHoldCount > maxHoldCount) {
+            holdCount.decrementAndGet();
+            return "Too many long polling requests held by server, max hold count is " + maxHoldCount;
+        }
+        int maxHoldCountPerIp = SwitchService.getSwitchInteger(MAX_LONG_POLLING_HOLD_COUNT_PER_IP, 0);
+        boolean[] rejected = new boolean[1];
+        ipHoldCount.compute(ip, (key, count) -> {
+            int current = null == count ? 0 : count;
+            if (maxHoldCountPerIp > 0 && current >= maxHoldCountPerIp) {
+                rejected[0] = true;
+                return count;
+            }
+            return current + 1;
+        });
+        if (rejected[0]) {
+            holdCount.decrementAndGet();
+            return "Too many long polling requests held for ip " + ip + ", max hold count per ip is "
+                    + maxHoldCountPerIp;
+        }
+        return null;
+    }
+    
+    private void releaseHoldCapacity(String ip) {
+        holdCount.decrementAndGet();
+        ipHoldCount.computeIfPresent(ip, (key, count) -> count > 1 ? count - 1 : null);
+    }
+    
+    int getHoldCount(String ip) {
+        return ipHoldCount.getOrDefault(ip, 0);
+    }
+    
     public static boolean isSupportLongPolling(HttpServletRequest req) {
         return null != req.getHeader(LONG_POLLING_HEADER);
     }
     
     @SuppressWarnings("PMD.ThreadPoolCreationRule")
     public LongPollingService() {
-        allSubs = new ConcurrentLinkedQueue<>();
+        allSubs = ConcurrentHashMap.newKeySet();
+        groupKeySubs = new ConcurrentHashMap<>();
         
         ConfigExecutor.scheduleLongPolling(new StatTask(), 0L, 10L, TimeUnit.SECONDS);
         
@@ -260,22 +311,94 @@ public class LongPollingService {
     
     public static final String LONG_POLLING_NO_HANG_UP_HEADER = "Long-Pulling-Timeout-No-Hangup";
     
+    /**
+     * Switch of max long polling requests held by this server, non-positive means no limit.
+     */
+    public static final String MAX_LONG_POLLING_HOLD_COUNT = "MAX_LONG_POLLING_HOLD_COUNT";
+    
+    /**
+     * Switch of max long polling requests held by this server for one client ip, non-positive means no limit.
+     */
+    public static final String MAX_LONG_POLLING_HOLD_COUNT_PER_IP = "MAX_LONG_POLLING_HOLD_COUNT_PER_IP";
+    
     /**
      * ClientLongPolling subscibers.
      */
-    final Queue<ClientLongPolling> allSubs;
+    final Set<ClientLongPolling> allSubs;
+    
+    /**
+     * groupKey -> ClientLongPolling subscibers which listen the groupKey.
+     */
+    final Map<String, Set<ClientLongPolling>> groupKeySubs;
+    
+    /**
+     * count of ClientLongPolling reserved and held by this server.
+     */
+    private final AtomicInteger holdCount = new AtomicInteger();
+    
+    /**
+     * ip -> count of ClientLongPolling reserved and held for the ip.
+     */
+    private final Map<String, Integer> ipHoldCount = new ConcurrentHashMap<>();
+    
+    private void addSubscriber(ClientLongPolling clientSub) {
+        allSubs.add(clientSub);
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            groupKeySubs.compute(groupKey, (key, subs) -> {
+                Set<ClientLongPolling> result = null == subs ? ConcurrentHashMap.newKeySet() : subs;
+                result.add(clientSub);
+                return result;
+            });
+        }
+        // removed while indexing, the remover may have missed the keys indexed after it.
+        if (clientSub.removed.get()) {
+            unindexSubscriber(clientSub);
+        }
+    }
+    
+    /**
+     * Remove subscriber and its index, only the caller which really removed the subscriber should send response.
+     *
+     * @param clientSub subscriber
+     * @return true if the subscriber is removed by this call
+     */
+    private boolean removeSubscriber(ClientLongPolling clientSub) {
+        if (!clientSub.removed.compareAndSet(false, true)) {
+            return false;
+        }
+        unindexSubscriber(clientSub);
+        return true;
+    }
+    
+    /**
+     * Idempotent, may be called by both the remover and the adder of the subscriber.
+     */
+    private void unindexSubscriber(ClientLongPolling clientSub) {
+        if (allSubs.remove(clientSub)) {
+            releaseHoldCapacity(clientSub.ip);
+        }
+        for (String groupKey : clientSub.clientMd5Map.keySet()) {
+            groupKeySubs.computeIfPresent(groupKey, (key, subs) -> {
+                subs.remove(clientSub);
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+    }
+    
+    private Set<ClientLongPolling> getSubscribers(String groupKey) {
+        return groupKeySubs.getOrDefault(groupKey, Collections.emptySet());
+    }
     
     class DataChangeTask implements Runnable {
         
         @Override
         public void run() {
             try {
-                for (Iterator<ClientLongPolling> iter = allSubs.iterator(); iter.hasNext(); ) {
-                    ClientLongPolling clientSub = iter.next();
-                    if (clientSub.clientMd5Map.containsKey(groupKey)) {
+                for (ClientLongPolling clientSub : getSubscribers(groupKey)) {
+                    // Delete subscribers' relationships.
+                    if (clientSub.clientMd5Map.containsKey(groupKey) && removeSubscriber(clientSub)) {
                         
                         getRetainIps().put(clientSub.ip, System.currentTimeMillis());
-                        iter.remove(); // Delete subscribers' relationships.
                         LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime),
                                 "in-advance",
                                 RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
@@ -317,7 +440,7 @@ public class LongPollingService {
                     getRetainIps().put(ClientLongPolling.this.ip, System.currentTimeMillis());
                     
                     // Delete subscriber's relations.
-                    boolean removeFlag = allSubs.remove(ClientLongPolling.this);
+                    boolean removeFlag = removeSubscriber(ClientLongPolling.this);
                     
                     if (removeFlag) {
                         
@@ -335,7 +458,7 @@ public class LongPollingService {
                 
             }, timeoutTime, TimeUnit.MILLISECONDS);
             
-            allSubs.add(this);
+            addSubscriber(this);
         }
         
         void sendResponse(Map<String, ConfigListenState> changedGroups) {
@@ -403,6 +526,8 @@ public class LongPollingService {
         
         Future<?> asyncTimeoutFuture;
         
+        final AtomicBoolean removed = new AtomicBoolean();
+        
         @Override
         public String toString() {
             return "ClientLongPolling{" + "clientMd5Map=" + clientMd5Map + ", createTime=" + createTime + ", ip='" + ip
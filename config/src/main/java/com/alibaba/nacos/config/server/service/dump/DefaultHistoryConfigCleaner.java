@@ -36,14 +36,51 @@ public class DefaultHistoryConfigCleaner implements HistoryConfigCleaner {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultHistoryConfigCleaner.class);
     
+    private static final int PAGE_SIZE = 1000;
+    
+    /**
+     * Max delete batches in one clean pass, the rest is left to the next pass.
+     */
+    private static final int MAX_BATCH_PER_PASS = 100;
+    
+    /**
+     * Pause between two delete batches, to leave room for publishes which insert history rows.
+     */
+    private static final long BATCH_INTERVAL_MILLS = 100L;
+    
     private HistoryConfigInfoPersistService historyConfigInfoPersistService;
     
     @Override
     public void cleanHistoryConfig() {
         Timestamp startTime = getBeforeStamp(TimeUtils.getCurrentTime(), 24 * getRetentionDays());
-        int pageSize = 1000;
-        LOGGER.warn("clearConfigHistory, getBeforeStamp:{}, pageSize:{}", startTime, pageSize);
-        getHistoryConfigInfoPersistService().removeConfigHistory(startTime, pageSize);
+        long start = System.currentTimeMillis();
+        LOGGER.warn("clearConfigHistory, getBeforeStamp:{}, pageSize:{}", startTime, PAGE_SIZE);
+        int batchCount = 0;
+        long removedCount = 0;
+        for (int i = 0; i < MAX_BATCH_PER_PASS; i++) {
+            if (i > 0 && !pause()) {
+                break;
+            }
+            int removed = getHistoryConfigInfoPersistService().removeConfigHistory(startTime, PAGE_SIZE);
+            batchCount++;
+            removedCount += Math.max(removed, 0);
+            // a short batch means no more expired rows, and a storage which can not tell is cleaned one batch a pass.
+            if (removed < PAGE_SIZE) {
+                break;
+            }
+        }
+        LOGGER.warn("clearConfigHistory finished, removed {} rows in {} batches, {} ms", removedCount, batchCount,
+                System.currentTimeMillis() - start);
+    }
+    
+    private boolean pause() {
+        try {
+            Thread.sleep(BATCH_INTERVAL_MILLS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
     
     private HistoryConfigInfoPersistService getHistoryConfigInfoPersistService() {
@@ -21,16 +21,19 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.constant.Constants.NULL;
@@ -51,7 +54,22 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
-    Map<String, RocksDB> rocksDbMap = new HashMap<>();
+    private static final String BLOCK_CACHE_MB_KEY = "nacos.config.disk.rocksdb.blockCacheMB";
+    
+    private static final String BLOOM_FILTER_BITS_KEY = "nacos.config.disk.rocksdb.bloomFilterBitsPerKey";
+    
+    private static final String DISABLE_WAL_KEY = "nacos.config.disk.rocksdb.disableWal";
+    
+    private static final long DEFAULT_BLOCK_CACHE_MB = 8;
+    
+    private static final int DEFAULT_BLOOM_FILTER_BITS = 10;
+    
+    Map<String, RocksDB> rocksDbMap = new ConcurrentHashMap<>();
+    
+    /**
+     * The disk cache is cleared and rebuilt from the database on every startup, so writes skip the WAL by default.
+     */
+    private volatile WriteOptions writeOptions;
     
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
@@ -123,7 +141,8 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            initAndGetDB(type)
+                    .put(getWriteOptions(), getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -143,7 +162,8 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
             String content) throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
+            initAndGetDB(type)
+                    .put(getWriteOptions(), getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -188,19 +208,33 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     }
     
     RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
-        if (rocksDbMap.containsKey(dir)) {
-            return rocksDbMap.get(dir);
-        } else {
+        RocksDB rocksDb = rocksDbMap.get(dir);
+        if (rocksDb != null) {
+            return rocksDb;
+        }
+        synchronized (this) {
+            rocksDb = rocksDbMap.get(dir);
+            if (rocksDb != null) {
+                return rocksDb;
+            }
+            createDirIfEmpty(EnvUtil.getNacosHome() + dir);
+            rocksDb = RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir);
+            rocksDbMap.put(dir, rocksDb);
+            return rocksDb;
+        }
+    }
+    
+    WriteOptions getWriteOptions() {
+        if (writeOptions == null) {
             synchronized (this) {
-                if (rocksDbMap.containsKey(dir)) {
-                    return rocksDbMap.get(dir);
+                if (writeOptions == null) {
+                    WriteOptions options = new WriteOptions();
+                    options.setDisableWAL(EnvUtil.getProperty(DISABLE_WAL_KEY, Boolean.class, true));
+                    writeOptions = options;
                 }
-                createDirIfEmpty(EnvUtil.getNacosHome() + dir);
-                rocksDbMap.put(dir, RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir));
-                return rocksDbMap.get(dir);
             }
-            
         }
+        return writeOptions;
     }
     
     private void createDirIfEmpty(String filePath) {
@@ -234,7 +268,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
+            initAndGetDB(type).delete(getWriteOptions(), getKeyByte(dataId, group, tenant, tag));
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
@@ -243,7 +277,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private void removeGrayInner(String type, String dataId, String group, String tenant, String grayName) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, grayName));
+            initAndGetDB(type).delete(getWriteOptions(), getKeyByte(dataId, group, tenant, grayName));
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
@@ -276,6 +310,15 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     ColumnFamilyOptions createColumnFamilyOptions(String dir) {
         ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions();
         BlockBasedTableConfig tableFormatConfig = new BlockBasedTableConfig();
+        long blockCacheMB = EnvUtil.getProperty(BLOCK_CACHE_MB_KEY, Long.class, DEFAULT_BLOCK_CACHE_MB);
+        tableFormatConfig.setBlockCache(new LRUCache(blockCacheMB * 1024 * 1024));
+        //point lookups only, bloom filter avoids reading data blocks of sst files which not contain the key.
+        int bloomFilterBits = EnvUtil.getProperty(BLOOM_FILTER_BITS_KEY, Integer.class, DEFAULT_BLOOM_FILTER_BITS);
+        if (bloomFilterBits > 0) {
+            tableFormatConfig.setFilterPolicy(new BloomFilter(bloomFilterBits, false));
+        }
+        LogUtil.DEFAULT_LOG.info("init rocksdb block cache {}M, bloom filter bits per key {} for dir {}",
+                blockCacheMB, bloomFilterBits, dir);
         columnFamilyOptions.setTableFormatConfig(tableFormatConfig);
         //set more write buffer size to formal config-data, reduce flush to sst file frequency.
         columnFamilyOptions.setWriteBufferSize(getSuitFormalCacheSizeMB(dir) * 1024 * 1024);
@@ -321,8 +364,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void clearAll() {
         try {
-            if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
+            RocksDB rocksDb = rocksDbMap.remove(BASE_DIR);
+            if (rocksDb != null) {
+                rocksDb.close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
             }
             deleteDirIfExist(BASE_DIR);
@@ -338,8 +382,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAllGray() {
         
         try {
-            if (rocksDbMap.containsKey(GRAY_DIR)) {
-                rocksDbMap.get(GRAY_DIR).close();
+            RocksDB rocksDb = rocksDbMap.remove(GRAY_DIR);
+            if (rocksDb != null) {
+                rocksDb.close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + GRAY_DIR, new Options());
             }
             deleteDirIfExist(GRAY_DIR);
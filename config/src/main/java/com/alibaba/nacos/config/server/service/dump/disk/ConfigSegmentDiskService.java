@@ -0,0 +1,406 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+
+/**
+ * config segment disk service.
+ *
+ * <p>Config contents are appended to a few large segment files and located by an in-memory index, instead of one
+ * small file per config. The disk cache is cleared and rebuilt from the database on every startup, so segments do
+ * not need to be recovered and are never fsynced. A sealed segment is compacted into the active one once more than
+ * half of it is overwritten or removed.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigSegmentDiskService implements ConfigDiskService {
+    
+    private static final String SEGMENT_DATA = File.separator + "data" + File.separator + "segment-data";
+    
+    private static final String BASE_DIR = SEGMENT_DATA + File.separator + "config-data";
+    
+    private static final String GRAY_DIR = SEGMENT_DATA + File.separator + "gray-data";
+    
+    private static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    
+    private final SegmentStore formalStore;
+    
+    private final SegmentStore grayStore;
+    
+    public ConfigSegmentDiskService() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+    
+    ConfigSegmentDiskService(long segmentSize) {
+        formalStore = new SegmentStore(new File(EnvUtil.getNacosHome(), BASE_DIR), segmentSize);
+        grayStore = new SegmentStore(new File(EnvUtil.getNacosHome(), GRAY_DIR), segmentSize);
+    }
+    
+    private static String getKey(String... keys) {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String key : keys) {
+            if (key != null) {
+                urlEncode(key, stringBuilder);
+            }
+            stringBuilder.append('+');
+        }
+        return stringBuilder.toString();
+    }
+    
+    /**
+     * + -> %2B % -> %25.
+     */
+    private static void urlEncode(String str, StringBuilder sb) {
+        for (int idx = 0; idx < str.length(); ++idx) {
+            char c = str.charAt(idx);
+            if ('+' == c) {
+                sb.append("%2B");
+            } else if ('%' == c) {
+                sb.append("%25");
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        formalStore.put(getKey(dataId, group, tenant), content.getBytes(ENCODE_UTF8));
+    }
+    
+    @Override
+    public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
+            throws IOException {
+        grayStore.put(getKey(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
+    }
+    
+    @Override
+    public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
+        grayStore.remove(getKey(dataId, group, tenant, grayName));
+    }
+    
+    @Override
+    public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
+        return bytes2String(grayStore.get(getKey(dataId, group, tenant, grayName)));
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        formalStore.remove(getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return bytes2String(formalStore.get(getKey(dataId, group, tenant)));
+    }
+    
+    private String bytes2String(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            return null;
+        }
+        return new String(bytes, ENCODE_UTF8);
+    }
+    
+    @Override
+    public void clearAll() {
+        if (formalStore.clear()) {
+            LogUtil.DEFAULT_LOG.info("clear all config-info success.");
+        } else {
+            LogUtil.DEFAULT_LOG.warn("clear all config-info failed.");
+        }
+    }
+    
+    @Override
+    public void clearAllGray() {
+        if (grayStore.clear()) {
+            LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
+        } else {
+            LogUtil.DEFAULT_LOG.warn("clear all config-info-gray failed.");
+        }
+    }
+    
+    SegmentStore getFormalStore() {
+        return formalStore;
+    }
+    
+    /**
+     * Append only segment files with an in-memory key index.
+     *
+     * <p>Writers append to the active segment and update the index one by one, readers only wait for a compacted
+     * segment being closed. Compaction runs after the write lock is released and moves live contents entry by entry,
+     * so neither readers nor other writers wait for a whole compaction.
+     */
+    static class SegmentStore {
+        
+        private static final String SEGMENT_SUFFIX = ".seg";
+        
+        private final File dir;
+        
+        private final long segmentSize;
+        
+        /**
+         * Serializes appends and index updates.
+         */
+        private final ReentrantLock writeLock = new ReentrantLock();
+        
+        /**
+         * Readers hold the read lock while reading a segment, a segment is only closed under the write lock.
+         */
+        private final ReentrantReadWriteLock segmentLock = new ReentrantReadWriteLock();
+        
+        private final AtomicBoolean compacting = new AtomicBoolean();
+        
+        private final Map<String, Location> index = new ConcurrentHashMap<>();
+        
+        private final Map<Integer, Segment> segments = new ConcurrentHashMap<>();
+        
+        private Segment active;
+        
+        private int nextSegmentId;
+        
+        SegmentStore(File dir, long segmentSize) {
+            this.dir = dir;
+            this.segmentSize = segmentSize;
+        }
+        
+        void put(String key, byte[] bytes) throws IOException {
+            writeLock.lock();
+            try {
+                append(key, bytes);
+            } finally {
+                writeLock.unlock();
+            }
+            compactQuietly();
+        }
+        
+        byte[] get(String key) throws IOException {
+            segmentLock.readLock().lock();
+            try {
+                Location location = index.get(key);
+                if (location == null) {
+                    return null;
+                }
+                return segments.get(location.segmentId).read(location);
+            } finally {
+                segmentLock.readLock().unlock();
+            }
+        }
+        
+        void remove(String key) {
+            writeLock.lock();
+            try {
+                release(index.remove(key));
+            } finally {
+                writeLock.unlock();
+            }
+            compactQuietly();
+        }
+        
+        boolean clear() {
+            writeLock.lock();
+            segmentLock.writeLock().lock();
+            try {
+                for (Segment segment : segments.values()) {
+                    IoUtils.closeQuietly(segment.channel);
+                }
+                segments.clear();
+                index.clear();
+                active = null;
+                return !dir.exists() || FileUtils.deleteQuietly(dir);
+            } finally {
+                segmentLock.writeLock().unlock();
+                writeLock.unlock();
+            }
+        }
+        
+        int segmentCount() {
+            return segments.size();
+        }
+        
+        private void append(String key, byte[] bytes) throws IOException {
+            if (active == null || (active.size > 0 && active.size + bytes.length > segmentSize)) {
+                active = createSegment();
+            }
+            Location location = active.write(bytes);
+            release(index.put(key, location));
+        }
+        
+        private void release(Location location) {
+            if (location != null) {
+                segments.get(location.segmentId).liveBytes -= location.length;
+            }
+        }
+        
+        private Segment createSegment() throws IOException {
+            if (!dir.exists()) {
+                dir.mkdirs();
+            }
+            int segmentId = nextSegmentId++;
+            File file = new File(dir, segmentId + SEGMENT_SUFFIX);
+            Segment segment = new Segment(segmentId, file, new RandomAccessFile(file, "rw").getChannel());
+            segments.put(segmentId, segment);
+            return segment;
+        }
+        
+        /**
+         * The content has been written when compaction starts, a failed compaction is only retried by the next write.
+         */
+        private void compactQuietly() {
+            if (!compacting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                compactIfNecessary();
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("Compact segment of dir=[{}] fail, error={}", dir, e.getMessage());
+            } finally {
+                compacting.set(false);
+            }
+        }
+        
+        /**
+         * Move the live contents of at most one sealed segment which is more than half garbage into the active
+         * segment, then drop it. A sealed segment never receives new contents, so it holds no live content after all
+         * its entries in the index are moved.
+         */
+        private void compactIfNecessary() throws IOException {
+            Segment victim = selectVictim();
+            if (victim == null) {
+                return;
+            }
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                if (entry.getValue().segmentId == victim.id) {
+                    move(entry.getKey(), victim);
+                }
+            }
+            segmentLock.writeLock().lock();
+            try {
+                if (segments.remove(victim.id, victim)) {
+                    IoUtils.closeQuietly(victim.channel);
+                    FileUtils.deleteQuietly(victim.file);
+                }
+            } finally {
+                segmentLock.writeLock().unlock();
+            }
+        }
+        
+        private Segment selectVictim() {
+            writeLock.lock();
+            try {
+                for (Segment segment : segments.values()) {
+                    if (segment != active && segment.liveBytes * 2 < segment.size) {
+                        return segment;
+                    }
+                }
+                return null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        
+        private void move(String key, Segment victim) throws IOException {
+            writeLock.lock();
+            try {
+                Location location = index.get(key);
+                // overwritten or removed since the scan.
+                if (location == null || location.segmentId != victim.id) {
+                    return;
+                }
+                append(key, victim.read(location));
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+    
+    static class Segment {
+        
+        private final int id;
+        
+        private final File file;
+        
+        private final FileChannel channel;
+        
+        private long size;
+        
+        private long liveBytes;
+        
+        Segment(int id, File file, FileChannel channel) {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+        }
+        
+        Location write(byte[] bytes) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = size;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            Location location = new Location(id, size, bytes.length);
+            size = position;
+            liveBytes += bytes.length;
+            return location;
+        }
+        
+        byte[] read(Location location) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(location.length);
+            long position = location.offset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of segment " + file);
+                }
+                position += read;
+            }
+            return buffer.array();
+        }
+    }
+    
+    static class Location {
+        
+        private final int segmentId;
+        
+        private final long offset;
+        
+        private final int length;
+        
+        Location(int segmentId, long offset, int length) {
+            this.segmentId = segmentId;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
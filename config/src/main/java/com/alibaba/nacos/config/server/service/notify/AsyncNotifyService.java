@@ -31,6 +31,7 @@ import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
@@ -46,7 +47,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -55,6 +58,10 @@ import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_GRA
 /**
  * Async notify service.
  *
+ * <p>Each config change is synced to each member by its own {@link ConfigChangeClusterSyncRequest}. Changes are not
+ * batched per member because there is no batched cluster sync request that members of older versions can handle,
+ * only the retries of one member and config are coalesced.
+ *
  * @author Nacos
  */
 @Service
@@ -73,6 +80,11 @@ public class AsyncNotifyService {
     
     private ServerMemberManager memberManager;
     
+    /**
+     * Retry tasks which are waiting to be executed, key is member address + config key + gray name.
+     */
+    private final Map<String, NotifySingleRpcTask> pendingRetryTasks = new ConcurrentHashMap<>();
+    
     static final List<NodeState> HEALTHY_CHECK_STATUS = new ArrayList<>();
     
     static {
@@ -214,6 +226,30 @@ public class AsyncNotifyService {
         }
     }
     
+    /**
+     * Retry of a single notify task, which is coalesced with later retries for the same member and config until it
+     * runs.
+     */
+    public class RetryAsyncRpcTask implements Runnable {
+        
+        private final String retryKey;
+        
+        private final NotifySingleRpcTask task;
+        
+        public RetryAsyncRpcTask(String retryKey, NotifySingleRpcTask task) {
+            this.retryKey = retryKey;
+            this.task = task;
+        }
+        
+        @Override
+        public void run() {
+            pendingRetryTasks.remove(retryKey, task);
+            Queue<NotifySingleRpcTask> queue = new LinkedList<>();
+            queue.add(task);
+            executeAsyncRpcTask(queue);
+        }
+    }
+    
     public static class NotifySingleRpcTask extends AbstractDelayTask {
         
         private String dataId;
@@ -294,8 +330,11 @@ public class AsyncNotifyService {
         
         @Override
         public void merge(AbstractDelayTask task) {
-            // Perform merge, but do nothing, tasks with the same dataId and group, later will replace the previous
-            
+            // tasks with the same member, dataId, group and gray name only need to notify the latest modification.
+            if (task instanceof NotifySingleRpcTask) {
+                NotifySingleRpcTask other = (NotifySingleRpcTask) task;
+                this.lastModified = Math.max(this.lastModified, other.lastModified);
+            }
         }
         
         public String getTenant() {
@@ -305,11 +344,27 @@ public class AsyncNotifyService {
     }
     
     private void asyncTaskExecute(NotifySingleRpcTask task) {
+        String retryKey = buildRetryKey(task);
+        boolean[] needSchedule = new boolean[1];
+        pendingRetryTasks.compute(retryKey, (key, pendingTask) -> {
+            if (null == pendingTask) {
+                needSchedule[0] = true;
+                return task;
+            }
+            // a retry for the same member and config is already waiting, just let it notify the latest change.
+            pendingTask.merge(task);
+            return pendingTask;
+        });
+        if (!needSchedule[0]) {
+            return;
+        }
         int delay = getDelayTime(task);
-        Queue<NotifySingleRpcTask> queue = new LinkedList<>();
-        queue.add(task);
-        AsyncRpcTask asyncTask = new AsyncRpcTask(queue);
-        ConfigExecutor.scheduleAsyncNotify(asyncTask, delay, TimeUnit.MILLISECONDS);
+        ConfigExecutor.scheduleAsyncNotify(new RetryAsyncRpcTask(retryKey, task), delay, TimeUnit.MILLISECONDS);
+    }
+    
+    private static String buildRetryKey(NotifySingleRpcTask task) {
+        return task.member.getAddress() + "+" + GroupKey2.getKey(task.getDataId(), task.getGroup(), task.getTenant())
+                + "+" + task.getGrayName();
     }
     
     private static String getNotifyEvent(NotifySingleRpcTask task) {
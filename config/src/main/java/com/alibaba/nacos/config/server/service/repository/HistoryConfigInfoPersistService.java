@@ -64,8 +64,9 @@ public interface HistoryConfigInfoPersistService {
      *
      * @param startTime start time
      * @param limitSize limit size
+     * @return count of deleted rows, negative if the storage can not tell
      */
-    void removeConfigHistory(final Timestamp startTime, final int limitSize);
+    int removeConfigHistory(final Timestamp startTime, final int limitSize);
     //------------------------------------------update---------------------------------------------//
     //------------------------------------------select---------------------------------------------//
     
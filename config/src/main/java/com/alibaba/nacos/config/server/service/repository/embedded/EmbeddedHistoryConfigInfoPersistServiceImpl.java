@@ -112,7 +112,7 @@ public class EmbeddedHistoryConfigInfoPersistServiceImpl implements HistoryConfi
     }
     
     @Override
-    public void removeConfigHistory(final Timestamp startTime, final int limitSize) {
+    public int removeConfigHistory(final Timestamp startTime, final int limitSize) {
         HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
                 dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
         MapperContext context = new MapperContext();
@@ -121,6 +121,8 @@ public class EmbeddedHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         MapperResult mapperResult = historyConfigInfoMapper.removeConfigHistory(context);
         PaginationHelper<ConfigInfo> helper = createPaginationHelper();
         helper.updateLimit(mapperResult.getSql(), mapperResult.getParamList().toArray());
+        // the raft log of embedded storage does not return the count of deleted rows.
+        return -1;
     }
     
     @Override
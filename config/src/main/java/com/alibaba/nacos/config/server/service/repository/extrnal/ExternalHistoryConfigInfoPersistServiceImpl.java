@@ -112,15 +112,14 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
     }
     
     @Override
-    public void removeConfigHistory(final Timestamp startTime, final int limitSize) {
+    public int removeConfigHistory(final Timestamp startTime, final int limitSize) {
         HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
                 dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
         MapperContext context = new MapperContext();
         context.putWhereParameter(FieldConstant.START_TIME, startTime);
         context.putWhereParameter(FieldConstant.LIMIT_SIZE, limitSize);
         MapperResult mapperResult = historyConfigInfoMapper.removeConfigHistory(context);
-        PaginationHelper<Object> paginationHelper = createPaginationHelper();
-        paginationHelper.updateLimit(mapperResult.getSql(), mapperResult.getParamList().toArray());
+        return jt.update(mapperResult.getSql(), mapperResult.getParamList().toArray());
     }
     
     @Override
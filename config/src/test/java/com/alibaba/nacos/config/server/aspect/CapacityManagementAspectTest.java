@@ -345,6 +345,30 @@ class CapacityManagementAspectTest {
         Mockito.verify(proceedingJoinPoint, Mockito.times(1)).proceed();
     }
     
+    @Test
+    void testAroundPublishAspectTenantCapacityCached() throws Throwable {
+        when(PropertyUtil.isManageCapacity()).thenReturn(true);
+        when(PropertyUtil.isCapacityLimitCheck()).thenReturn(true);
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[]{configForm, configRequestInfo});
+        when(proceedingJoinPoint.proceed()).thenReturn(mockProceedingJoinPointResult);
+        when(configForm.getDataId()).thenReturn("dataId");
+        when(configForm.getGroup()).thenReturn("group");
+        when(configForm.getNamespaceId()).thenReturn(mockTenant);
+        when(configForm.getContent()).thenReturn("content");
+        when(configInfoPersistService.findConfigInfo(any(), any(), any())).thenReturn(new ConfigInfoWrapper());
+        
+        NamespaceCapacity localTenantCapacity = new NamespaceCapacity();
+        localTenantCapacity.setNamespaceId(mockTenant);
+        localTenantCapacity.setMaxSize(10 * 1024);
+        when(capacityService.getTenantCapacity(eq(mockTenant))).thenReturn(localTenantCapacity);
+        
+        capacityManagementAspect.aroundPublishConfig(proceedingJoinPoint);
+        capacityManagementAspect.aroundPublishConfig(proceedingJoinPoint);
+        // the second update uses cached capacity for size check.
+        Mockito.verify(capacityService, Mockito.times(1)).getTenantCapacity(eq(mockTenant));
+        Mockito.verify(proceedingJoinPoint, Mockito.times(2)).proceed();
+    }
+    
     @Test
     void testAroundPublishAspectGroup() throws Throwable {
         //condition:
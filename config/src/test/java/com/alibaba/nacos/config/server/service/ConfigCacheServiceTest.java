@@ -38,6 +38,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -247,6 +248,30 @@ class ConfigCacheServiceTest {
         assertNull(grayCacheAfterRemove);
     }
     
+    @Test
+    void testGetContentMd5WithGray() throws Exception {
+        String dataId = "dataIdtestGetContentMd5WithGray";
+        String group = "group11";
+        String tenant = "tenant112";
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        String content = "formalContent";
+        String grayContent = "grayContent";
+        ConfigCacheService.dump(dataId, group, tenant, content, System.currentTimeMillis(), null, null);
+        
+        Map<String, String> labels = new HashMap<>();
+        assertEquals(MD5Utils.md5Hex(content, "UTF-8"),
+                ConfigCacheService.getContentMd5(groupKey, "1.1.1.1", "tag1", labels));
+        assertTrue(labels.isEmpty());
+        
+        String grayRule = "{\"type\":\"tag\",\"version\":\"1.0.0\",\"expr\":\"tag1\",\"priority\":1}";
+        ConfigCacheService.dumpGray(dataId, group, tenant, "grayName", grayRule, grayContent,
+                System.currentTimeMillis(), null);
+        assertEquals(MD5Utils.md5Hex(grayContent, "UTF-8"),
+                ConfigCacheService.getContentMd5(groupKey, "1.1.1.1", "tag1", labels));
+        assertEquals(MD5Utils.md5Hex(content, "UTF-8"),
+                ConfigCacheService.getContentMd5(groupKey, "1.1.1.1", "tag2", null));
+    }
+    
     @Test
     void testTryConfigReadLock() throws Exception {
         String dataId = "123testTryConfigReadLock";
@@ -50,6 +50,9 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -266,6 +269,9 @@ class LongPollingServiceTest {
         //expect print not equals group
         Mockito.verify(printWriter, times(1)).println(eq(responseString));
         Mockito.verify(asyncContext, times(1)).complete();
+        // expect subscriber and its groupKey index removed after notified
+        assertTrue(longPollingService.allSubs.isEmpty());
+        assertFalse(longPollingService.groupKeySubs.containsKey(groupKeyChanged));
         
     }
     
@@ -307,4 +313,47 @@ class LongPollingServiceTest {
         Mockito.verify(asyncContext, times(1)).complete();
         
     }
+    
+    @Test
+    void testSubscriberRemovedWhileAdding() {
+        String clientIp = "192.168.0.1";
+        Map<String, ConfigListenState> clientMd5Map = Collections.singletonMap("groupKey", new ConfigListenState("md5"));
+        LongPollingService.ClientLongPolling clientLongPolling = longPollingService.new ClientLongPolling(
+                Mockito.mock(AsyncContext.class), clientMd5Map, clientIp, 1, 30000L, "app", null);
+        assertNull(longPollingService.reserveHoldCapacity(clientIp));
+        // a remover which won the race before the subscriber was indexed
+        clientLongPolling.removed.set(true);
+        clientLongPolling.run();
+        assertTrue(longPollingService.allSubs.isEmpty());
+        assertFalse(longPollingService.groupKeySubs.containsKey("groupKey"));
+        assertEquals(0, longPollingService.getHoldCount(clientIp));
+    }
+    
+    @Test
+    void testReserveHoldCapacity() {
+        String clientIp = "192.168.0.1";
+        switchServiceMockedStatic.when(
+                () -> SwitchService.getSwitchInteger(eq(LongPollingService.MAX_LONG_POLLING_HOLD_COUNT_PER_IP), eq(0)))
+                .thenReturn(1);
+        assertNull(longPollingService.reserveHoldCapacity(clientIp));
+        assertEquals(1, longPollingService.getHoldCount(clientIp));
+        assertNotNull(longPollingService.reserveHoldCapacity(clientIp));
+        assertEquals(1, longPollingService.getHoldCount(clientIp));
+        
+        switchServiceMockedStatic.when(
+                () -> SwitchService.getSwitchInteger(eq(LongPollingService.MAX_LONG_POLLING_HOLD_COUNT), eq(0)))
+                .thenReturn(2);
+        assertNull(longPollingService.reserveHoldCapacity("192.168.0.2"));
+        assertNotNull(longPollingService.reserveHoldCapacity("192.168.0.3"));
+        assertEquals(0, longPollingService.getHoldCount("192.168.0.3"));
+        
+        // the reservation is released when the subscriber is removed.
+        Map<String, ConfigListenState> clientMd5Map = Collections.singletonMap("groupKey", new ConfigListenState("md5"));
+        LongPollingService.ClientLongPolling clientLongPolling = longPollingService.new ClientLongPolling(
+                Mockito.mock(AsyncContext.class), clientMd5Map, clientIp, 1, 30000L, "app", null);
+        clientLongPolling.removed.set(true);
+        clientLongPolling.run();
+        assertEquals(0, longPollingService.getHoldCount(clientIp));
+        assertNull(longPollingService.reserveHoldCapacity("192.168.0.3"));
+    }
 }
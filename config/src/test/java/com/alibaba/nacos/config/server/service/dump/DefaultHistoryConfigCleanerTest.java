@@ -36,6 +36,7 @@ import java.sql.Timestamp;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(SpringExtension.class)
 public class DefaultHistoryConfigCleanerTest {
@@ -87,6 +88,26 @@ public class DefaultHistoryConfigCleanerTest {
                 .removeConfigHistory(any(Timestamp.class), anyInt());
     }
     
+    @Test
+    public void testCleanHistoryConfigInBatches() throws Exception {
+        Mockito.when(historyConfigInfoPersistService.removeConfigHistory(any(Timestamp.class), eq(1000)))
+                .thenReturn(1000, 1000, 500);
+        defaultHistoryConfigCleaner.cleanHistoryConfig();
+        Mockito.verify(historyConfigInfoPersistService, Mockito.times(3))
+                .removeConfigHistory(any(Timestamp.class), eq(1000));
+        Mockito.verify(historyConfigInfoPersistService, Mockito.never())
+                .findConfigHistoryCountByTime(any(Timestamp.class));
+    }
+    
+    @Test
+    public void testCleanHistoryConfigWithUnknownCount() throws Exception {
+        Mockito.when(historyConfigInfoPersistService.removeConfigHistory(any(Timestamp.class), eq(1000)))
+                .thenReturn(-1);
+        defaultHistoryConfigCleaner.cleanHistoryConfig();
+        Mockito.verify(historyConfigInfoPersistService, Mockito.times(1))
+                .removeConfigHistory(any(Timestamp.class), eq(1000));
+    }
+    
     @Test
     public void testGetRetentionDays() throws Exception {
         Method method = DefaultHistoryConfigCleaner.class.getDeclaredMethod("getRetentionDays");
@@ -53,6 +53,13 @@ class ConfigDiskServiceFactoryTest {
         assertTrue(instance instanceof ConfigRocksDbDiskService);
     }
     
+    @Test
+    void getSegmentDiskInstance() {
+        System.setProperty("config_disk_type", "segment");
+        ConfigDiskService instance = ConfigDiskServiceFactory.getInstance();
+        assertTrue(instance instanceof ConfigSegmentDiskService);
+    }
+    
     @Test
     void getDefaultRawDiskInstance() {
         System.setProperty("config_disk_type", "123");
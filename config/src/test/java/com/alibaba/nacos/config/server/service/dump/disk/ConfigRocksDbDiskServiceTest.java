@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigRocksDbDiskServiceTest {
+    
+    @TempDir
+    Path nacosHome;
+    
+    private ConfigRocksDbDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        EnvUtil.setNacosHomePath(nacosHome.toString());
+        diskService = new ConfigRocksDbDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        diskService.clearAll();
+        diskService.clearAllGray();
+        EnvUtil.setNacosHomePath(null);
+    }
+    
+    @Test
+    void testSaveAndRemove() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        assertTrue(diskService.getWriteOptions().disableWAL());
+        
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        diskService.removeConfigInfo4Gray("dataId", "group", "tenant", "gray");
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testReopenAfterClearAll() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.clearAll();
+        assertFalse(diskService.rocksDbMap.containsKey(File.separator + "rocksdata" + File.separator + "config-data"));
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+    }
+}
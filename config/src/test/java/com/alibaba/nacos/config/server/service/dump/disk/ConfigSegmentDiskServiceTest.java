@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigSegmentDiskServiceTest {
+    
+    @TempDir
+    Path nacosHome;
+    
+    private ConfigSegmentDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setNacosHomePath(nacosHome.toString());
+        diskService = new ConfigSegmentDiskService(64);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        diskService.clearAll();
+        diskService.clearAllGray();
+        EnvUtil.setNacosHomePath(null);
+    }
+    
+    @Test
+    void testSaveAndRemove() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.saveToDisk("dataId", "group", "tenant", "tenantContent");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        assertEquals("content", diskService.getContent("dataId", "group", ""));
+        assertEquals("tenantContent", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        diskService.removeConfigInfo4Gray("dataId", "group", "tenant", "gray");
+        assertEquals("content", diskService.getContent("dataId", "group", ""));
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testKeyNotAmbiguous() throws IOException {
+        diskService.saveGrayToDisk("dataId", "group", "", "a+b", "gray1");
+        diskService.saveGrayToDisk("dataId", "group", "a", "b", "gray2");
+        assertEquals("gray1", diskService.getGrayContent("dataId", "group", "", "a+b"));
+        assertEquals("gray2", diskService.getGrayContent("dataId", "group", "a", "b"));
+    }
+    
+    @Test
+    void testCompactOverwrittenSegments() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            diskService.saveToDisk("dataId", "group", "", "content-of-32-bytes-version-" + (1000 + i));
+        }
+        diskService.saveToDisk("otherId", "group", "", "other");
+        assertEquals("content-of-32-bytes-version-1099", diskService.getContent("dataId", "group", ""));
+        assertEquals("other", diskService.getContent("otherId", "group", ""));
+        assertEquals(2, diskService.getFormalStore().segmentCount());
+    }
+    
+    @Test
+    void testCompactFailNotFailPut() throws IOException {
+        ConfigSegmentDiskService.SegmentStore store = diskService.getFormalStore();
+        store.put("a", new byte[30]);
+        store.put("c", new byte[20]);
+        store.put("b", new byte[30]);
+        Map<Integer, ConfigSegmentDiskService.Segment> segments = (Map<Integer, ConfigSegmentDiskService.Segment>)
+                ReflectionTestUtils.getField(store, "segments");
+        // break the sealed segment so that moving "c" out of it fails.
+        FileChannel channel = (FileChannel) ReflectionTestUtils.getField(segments.get(0), "channel");
+        channel.close();
+        
+        byte[] content = "content-of-30-bytes-0123456789".getBytes(StandardCharsets.UTF_8);
+        store.put("a", content);
+        assertArrayEquals(content, store.get("a"));
+        assertEquals(2, store.segmentCount());
+    }
+    
+    @Test
+    void testClearAll() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId", "group", ""));
+        diskService.saveToDisk("dataId", "group", "", "newContent");
+        assertEquals("newContent", diskService.getContent("dataId", "group", ""));
+    }
+}
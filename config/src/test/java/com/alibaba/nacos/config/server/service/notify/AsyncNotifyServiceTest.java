@@ -46,6 +46,7 @@ import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.HEALTHY_CHECK_STATUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -98,9 +99,13 @@ class AsyncNotifyServiceTest {
         String group = "testGroup";
         AsyncNotifyService.NotifySingleRpcTask notifySingleRpcTask = new AsyncNotifyService.NotifySingleRpcTask(dataId,
                 group, null, null, 0, member1);
+        // run the retry directly, member1 is not in member list so the retry finishes without notifying.
         configExecutorMocked.when(
                 () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
-                .thenAnswer(invocation -> null);
+                .thenAnswer(invocation -> {
+                    ((Runnable) invocation.getArgument(0)).run();
+                    return null;
+                });
         
         notifySingleRpcTask.setTag("test");
         notifySingleRpcTask.setBeta(false);
@@ -117,7 +122,7 @@ class AsyncNotifyServiceTest {
         
         // expect schedule twice fail or exception response.
         configExecutorMocked.verify(
-                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(),
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.RetryAsyncRpcTask.class), anyLong(),
                         any(TimeUnit.class)), times(2));
     }
     
@@ -225,8 +230,35 @@ class AsyncNotifyServiceTest {
         
         //verify scheduleAsyncNotify member2 & member3 in task when syncConfigChange fail
         configExecutorMocked.verify(
-                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(),
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.RetryAsyncRpcTask.class), anyLong(),
                         any(TimeUnit.class)), times(2));
         
     }
+    
+    @Test
+    void testPendingRetryCoalesced() {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        String dataId = "testDataId" + timeStamp;
+        String group = "testGroup";
+        AsyncNotifyService.NotifySingleRpcTask firstTask = new AsyncNotifyService.NotifySingleRpcTask(dataId, group,
+                null, null, 1L, member1);
+        AsyncNotifyService.NotifySingleRpcTask secondTask = new AsyncNotifyService.NotifySingleRpcTask(dataId, group,
+                null, null, 2L, member1);
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> null);
+        
+        new AsyncRpcNotifyCallBack(asyncNotifyService, firstTask).onException(new NacosException());
+        new AsyncRpcNotifyCallBack(asyncNotifyService, secondTask).onException(new NacosException());
+        
+        // the second retry is merged into the pending one.
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.RetryAsyncRpcTask.class), anyLong(),
+                        any(TimeUnit.class)), times(1));
+        assertEquals(2L, firstTask.getLastModified());
+    }
 }
@@ -19,6 +19,8 @@ package com.alibaba.nacos.core.cluster;
 import com.alibaba.nacos.api.ability.ServerAbilities;
 import com.alibaba.nacos.api.common.NodeState;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.auth.config.NacosAuthConfigHolder;
 import com.alibaba.nacos.auth.util.AuthHeaderUtil;
@@ -66,6 +68,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
 
 import static com.alibaba.nacos.api.exception.NacosException.CLIENT_INVALID_PARAM;
 
@@ -534,10 +537,21 @@ public class ServerMemberManager implements NacosMemberManager {
         
         private int cursor = 0;
         
+        private int unhealthyCursor = 0;
+        
+        private long round = 0;
+        
         private ClusterRpcClientProxy clusterRpcClientProxy;
         
         public static final long REPORT_INTERVAL = 50000L;
         
+        /**
+         * Down members are only probed once every this many rounds, a member usually stays down for a while.
+         */
+        private static final int DOWN_PROBE_ROUNDS = 5;
+        
+        private static final long UNHEALTHY_REPORT_TIMEOUT = 3000L;
+        
         @Override
         protected void executeBody() {
             List<Member> members = ServerMemberManager.this.allMembersWithoutSelf();
@@ -554,7 +568,29 @@ public class ServerMemberManager implements NacosMemberManager {
             
             this.cursor = (this.cursor + 1) % members.size();
             Member target = members.get(cursor);
+            report(target);
             
+            // Suspicious members are probed every round and down members every few rounds instead of once per round
+            // robin cycle, so that failure and recovery converge quickly no matter how many members the cluster has.
+            // The probe is asynchronous so that an unreachable member does not delay the next round.
+            boolean includeDown = ++this.round % DOWN_PROBE_ROUNDS == 0;
+            Member unhealthy = nextUnhealthyMember(members, target, includeDown);
+            if (null != unhealthy) {
+                asyncReport(unhealthy);
+            }
+        }
+        
+        private void asyncReport(Member target) {
+            Loggers.CLUSTER.debug("report the metadata to the unhealthy node : {}", target.getAddress());
+            
+            if (target.getAbilities().getRemoteAbility().isGrpcReportEnabled() || target.isGrpcReportEnabled()) {
+                asyncReportByGrpc(target);
+            } else {
+                reportByHttp(target);
+            }
+        }
+        
+        private void report(Member target) {
             Loggers.CLUSTER.debug("report the metadata to the node : {}", target.getAddress());
             
             // adapt old version
@@ -565,6 +601,37 @@ public class ServerMemberManager implements NacosMemberManager {
             }
         }
         
+        /**
+         * Select at most one unhealthy member except the round robin target, rotating between unhealthy members.
+         * Suspicious members are preferred to confirm failures quickly, otherwise a down member is probed to detect
+         * its recovery if {@code includeDown}.
+         *
+         * @param members     members without self
+         * @param target      round robin target of this round
+         * @param includeDown whether a down member can be selected
+         * @return unhealthy member to probe, {@code null} if none
+         */
+        Member nextUnhealthyMember(List<Member> members, Member target, boolean includeDown) {
+            Member result = nextMemberInState(members, target, NodeState.SUSPICIOUS);
+            if (null != result || !includeDown) {
+                return result;
+            }
+            return nextMemberInState(members, target, NodeState.DOWN);
+        }
+        
+        private Member nextMemberInState(List<Member> members, Member target, NodeState state) {
+            int size = members.size();
+            for (int i = 1; i <= size; i++) {
+                int index = (this.unhealthyCursor + i) % size;
+                Member each = members.get(index);
+                if (each != target && state.equals(each.getState())) {
+                    this.unhealthyCursor = index;
+                    return each;
+                }
+            }
+            return null;
+        }
+        
         protected void reportByHttp(Member target) {
             final String url = HttpUtils.buildUrl(false, target.getAddress(), EnvUtil.getContextPath(),
                     Commons.NACOS_CORE_CONTEXT, "/cluster/report");
@@ -644,6 +711,56 @@ public class ServerMemberManager implements NacosMemberManager {
             }
         }
         
+        protected void asyncReportByGrpc(Member target) {
+            if (Objects.isNull(clusterRpcClientProxy)) {
+                clusterRpcClientProxy = ApplicationUtils.getBean(ClusterRpcClientProxy.class);
+            }
+            if (!clusterRpcClientProxy.isRunning(target)) {
+                MemberUtil.onFail(ServerMemberManager.this, target,
+                        new NacosException(CLIENT_INVALID_PARAM, "No rpc client related to member: " + target));
+                return;
+            }
+            
+            try {
+                clusterRpcClientProxy.asyncRequest(target, new MemberReportRequest(getSelf()),
+                        new RequestCallBack<Response>() {
+                            @Override
+                            public Executor getExecutor() {
+                                return null;
+                            }
+                            
+                            @Override
+                            public long getTimeout() {
+                                return UNHEALTHY_REPORT_TIMEOUT;
+                            }
+                            
+                            @Override
+                            public void onResponse(Response response) {
+                                if (response instanceof MemberReportResponse && response.isSuccess()) {
+                                    MemberUtil.onSuccess(ServerMemberManager.this, target,
+                                            ((MemberReportResponse) response).getNode());
+                                    return;
+                                }
+                                if (null != response && response.getErrorCode() == NacosException.NO_HANDLER) {
+                                    target.getAbilities().getRemoteAbility().setGrpcReportEnabled(false);
+                                    target.setGrpcReportEnabled(false);
+                                }
+                                MemberUtil.onFail(ServerMemberManager.this, target);
+                            }
+                            
+                            @Override
+                            public void onException(Throwable e) {
+                                Loggers.CLUSTER.error("failed to probe unhealthy node by grpc : {}, error : {}",
+                                        target.getAddress(), ExceptionUtil.getAllExceptionMsg(e));
+                                MemberUtil.onFail(ServerMemberManager.this, target, e);
+                            }
+                        });
+            } catch (NacosException e) {
+                Loggers.CLUSTER.error("failed to report new info to target node by grpc : {}, error : {}",
+                        target.getAddress(), ExceptionUtil.getAllExceptionMsg(e));
+            }
+        }
+        
         @Override
         protected void after() {
             GlobalExecutor.scheduleByCommon(this, 2_000L);
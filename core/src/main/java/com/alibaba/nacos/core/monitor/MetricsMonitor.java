@@ -49,6 +49,8 @@ public final class MetricsMonitor {
     private static final Timer RAFT_APPLY_READ_TIMER;
     
     private static AtomicInteger longConnection = new AtomicInteger();
+    
+    private static AtomicInteger pushPendingAck = new AtomicInteger();
 
     private static GrpcServerExecutorMetric sdkServerExecutorMetric = new GrpcServerExecutorMetric("grpcSdkServer");
 
@@ -82,6 +84,11 @@ public final class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "longConnection"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, longConnection);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushPendingAck"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushPendingAck);
 
         tags = new ArrayList<>();
         tags.add(immutableTag);
@@ -135,6 +142,10 @@ public final class MetricsMonitor {
         return longConnection;
     }
     
+    public static AtomicInteger getPushPendingAckMonitor() {
+        return pushPendingAck;
+    }
+    
     public static void raftReadIndexFailed() {
         RAFT_READ_INDEX_FAILED.record(1);
     }
@@ -19,11 +19,12 @@ package com.alibaba.nacos.core.remote;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alipay.hessian.clhm.ConcurrentLinkedHashMap;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -37,8 +38,14 @@ public class RpcAckCallbackSynchronizer {
     @SuppressWarnings("checkstyle:linelength")
     public static final Map<String, Map<String, DefaultRequestFuture>> CALLBACK_CONTEXT = new ConcurrentLinkedHashMap.Builder<String, Map<String, DefaultRequestFuture>>()
             .maximumWeightedCapacity(1000000)
-            .listener((s, pushCallBack) -> pushCallBack.entrySet().forEach(
-                stringDefaultPushFutureEntry -> stringDefaultPushFutureEntry.getValue().setFailResult(new TimeoutException()))).build();
+            .listener((s, pushCallBack) -> pushCallBack.keySet().forEach(requestId -> {
+                DefaultRequestFuture future = removeFuture(pushCallBack, requestId);
+                if (future != null) {
+                    future.setFailResult(new TimeoutException());
+                }
+            })).build();
+    
+    private static final int DEFAULT_CONTEXT_CAPACITY = 128;
     
     /**
      * notify  ack.
@@ -57,7 +64,7 @@ public class RpcAckCallbackSynchronizer {
             return;
         }
         
-        DefaultRequestFuture currentCallback = stringDefaultPushFutureMap.remove(response.getRequestId());
+        DefaultRequestFuture currentCallback = removeFuture(stringDefaultPushFutureMap, response.getRequestId());
         if (currentCallback == null) {
             
             Loggers.REMOTE_DIGEST
@@ -86,13 +93,16 @@ public class RpcAckCallbackSynchronizer {
         
         Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = initContextIfNecessary(connectionId);
         
-        if (!stringDefaultPushFutureMap.containsKey(requestId)) {
-            DefaultRequestFuture pushCallBackPrev = stringDefaultPushFutureMap
-                    .putIfAbsent(requestId, defaultPushFuture);
-            if (pushCallBackPrev == null) {
-                return;
+        MetricsMonitor.getPushPendingAckMonitor().incrementAndGet();
+        DefaultRequestFuture pushCallBackPrev = stringDefaultPushFutureMap.putIfAbsent(requestId, defaultPushFuture);
+        if (pushCallBackPrev == null) {
+            // the context may be cleared concurrently, nobody would remove the future from a detached context.
+            if (CALLBACK_CONTEXT.get(connectionId) != stringDefaultPushFutureMap) {
+                removeFuture(stringDefaultPushFutureMap, requestId);
             }
+            return;
         }
+        MetricsMonitor.getPushPendingAckMonitor().decrementAndGet();
         throw new NacosException(NacosException.INVALID_PARAM, "request id conflict");
         
     }
@@ -103,23 +113,51 @@ public class RpcAckCallbackSynchronizer {
      * @param connectionId connectionId
      */
     public static void clearContext(String connectionId) {
-        CALLBACK_CONTEXT.remove(connectionId);
+        Map<String, DefaultRequestFuture> removed = CALLBACK_CONTEXT.remove(connectionId);
+        if (removed != null) {
+            removed.keySet().forEach(requestId -> removeFuture(removed, requestId));
+        }
+    }
+    
+    /**
+     * Remove the future from context, the pending ack count is only decreased by the caller which really removed it.
+     */
+    private static DefaultRequestFuture removeFuture(Map<String, DefaultRequestFuture> context, String requestId) {
+        DefaultRequestFuture removed = context.remove(requestId);
+        if (removed != null) {
+            MetricsMonitor.getPushPendingAckMonitor().decrementAndGet();
+        }
+        return removed;
     }
     
     /**
      * init context of connectionId if necessary.
      *
+     * <p>The context is written by push threads in {@link #syncCallback} and by ack threads in {@link #ackNotify}
+     * concurrently, so it must be a concurrent map.
+     *
      * @param connectionId connectionId
      */
     public static Map<String, DefaultRequestFuture> initContextIfNecessary(String connectionId) {
-        if (!CALLBACK_CONTEXT.containsKey(connectionId)) {
-            Map<String, DefaultRequestFuture> context = new HashMap<>(128);
-            Map<String, DefaultRequestFuture> stringDefaultRequestFutureMap = CALLBACK_CONTEXT
-                    .putIfAbsent(connectionId, context);
-            return stringDefaultRequestFutureMap == null ? context : stringDefaultRequestFutureMap;
-        } else {
-            return CALLBACK_CONTEXT.get(connectionId);
+        Map<String, DefaultRequestFuture> existContext = CALLBACK_CONTEXT.get(connectionId);
+        if (existContext != null) {
+            return existContext;
         }
+        Map<String, DefaultRequestFuture> context = new ConcurrentHashMap<>(DEFAULT_CONTEXT_CAPACITY);
+        Map<String, DefaultRequestFuture> stringDefaultRequestFutureMap = CALLBACK_CONTEXT
+                .putIfAbsent(connectionId, context);
+        return stringDefaultRequestFutureMap == null ? context : stringDefaultRequestFutureMap;
+    }
+    
+    /**
+     * Get the count of pushes which are still waiting for ack on the connection.
+     *
+     * @param connectionId connectionId
+     * @return count of pending acks, 0 if the connection has no context.
+     */
+    public static int getPendingAckCount(String connectionId) {
+        Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
+        return stringDefaultPushFutureMap == null ? 0 : stringDefaultPushFutureMap.size();
     }
     
     /**
@@ -131,10 +169,10 @@ public class RpcAckCallbackSynchronizer {
     public static void clearFuture(String connectionId, String requestId) {
         Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
         
-        if (stringDefaultPushFutureMap == null || !stringDefaultPushFutureMap.containsKey(requestId)) {
+        if (stringDefaultPushFutureMap == null) {
             return;
         }
-        stringDefaultPushFutureMap.remove(requestId);
+        removeFuture(stringDefaultPushFutureMap, requestId);
     }
     
 }
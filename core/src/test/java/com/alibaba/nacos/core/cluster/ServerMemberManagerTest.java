@@ -19,6 +19,8 @@ package com.alibaba.nacos.core.cluster;
 import com.alibaba.nacos.api.ability.ServerAbilities;
 import com.alibaba.nacos.api.common.NodeState;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.http.Callback;
 import com.alibaba.nacos.common.http.client.NacosAsyncRestTemplate;
 import com.alibaba.nacos.common.model.RestResult;
@@ -42,15 +44,18 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -250,4 +255,49 @@ class ServerMemberManagerTest {
         assertEquals("new", serverMemberManager.find("1.1.1.1:8848").getExtendVal(MemberMetaDataConstants.VERSION));
         assertEquals(NodeState.UP, serverMemberManager.find("1.1.1.1:8848").getState());
     }
+    
+    @Test
+    void testNextUnhealthyMember() {
+        Member up = Member.builder().ip("1.1.1.1").port(8848).state(NodeState.UP).build();
+        Member suspicious1 = Member.builder().ip("1.1.1.2").port(8848).state(NodeState.SUSPICIOUS).build();
+        Member suspicious2 = Member.builder().ip("1.1.1.3").port(8848).state(NodeState.SUSPICIOUS).build();
+        Member down = Member.builder().ip("1.1.1.4").port(8848).state(NodeState.DOWN).build();
+        List<Member> members = Arrays.asList(up, suspicious1, suspicious2, down);
+        ServerMemberManager.MemberInfoReportTask infoReportTask = serverMemberManager.getInfoReportTask();
+        assertEquals(suspicious1, infoReportTask.nextUnhealthyMember(members, up, true));
+        assertEquals(suspicious2, infoReportTask.nextUnhealthyMember(members, up, false));
+        assertEquals(suspicious1, infoReportTask.nextUnhealthyMember(members, suspicious2, true));
+        assertEquals(down, infoReportTask.nextUnhealthyMember(Arrays.asList(up, down), up, true));
+        assertNull(infoReportTask.nextUnhealthyMember(Arrays.asList(up, down), up, false));
+        assertNull(infoReportTask.nextUnhealthyMember(Arrays.asList(up, down), down, true));
+        assertNull(infoReportTask.nextUnhealthyMember(Collections.singletonList(up), up, true));
+    }
+    
+    @Test
+    void testProbeSuspiciousMemberAsync() throws NacosException {
+        Member suspicious = Member.builder().ip("1.1.1.1").port(8848).state(NodeState.SUSPICIOUS).build();
+        suspicious.setAbilities(new ServerAbilities());
+        suspicious.getAbilities().getRemoteAbility().setGrpcReportEnabled(true);
+        serverMemberManager.updateMember(suspicious);
+        Member up = Member.builder().ip("1.1.1.2").port(8848).state(NodeState.UP).build();
+        up.setAbilities(new ServerAbilities());
+        up.getAbilities().getRemoteAbility().setGrpcReportEnabled(true);
+        serverMemberManager.updateMember(up);
+        ServerMemberManager.MemberInfoReportTask infoReportTask = serverMemberManager.getInfoReportTask();
+        ClusterRpcClientProxy clusterRpcClientProxy = mock(ClusterRpcClientProxy.class);
+        ReflectionTestUtils.setField(infoReportTask, "clusterRpcClientProxy", clusterRpcClientProxy);
+        when(clusterRpcClientProxy.isRunning(any())).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(any(), any())).thenReturn(new MemberReportResponse(up));
+        doAnswer(invocationOnMock -> {
+            RequestCallBack<Response> callBack = invocationOnMock.getArgument(2);
+            Member recovered = Member.builder().ip("1.1.1.1").port(8848).state(NodeState.UP).build();
+            callBack.onResponse(new MemberReportResponse(recovered));
+            return null;
+        }).when(clusterRpcClientProxy).asyncRequest(any(), any(), any());
+        infoReportTask.run();
+        verify(clusterRpcClientProxy).sendRequest(eq(up), any());
+        verify(clusterRpcClientProxy, never()).sendRequest(eq(suspicious), any());
+        verify(clusterRpcClientProxy).asyncRequest(eq(suspicious), any(), any());
+        assertEquals(NodeState.UP, serverMemberManager.find("1.1.1.1:8848").getState());
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RpcAckCallbackSynchronizerTest {
+    
+    private static final String CONNECTION_ID = "ackTestConnection";
+    
+    @AfterEach
+    void tearDown() {
+        RpcAckCallbackSynchronizer.clearContext(CONNECTION_ID);
+    }
+    
+    @Test
+    void testContextIsConcurrent() {
+        assertTrue(RpcAckCallbackSynchronizer.initContextIfNecessary(CONNECTION_ID) instanceof ConcurrentMap);
+    }
+    
+    @Test
+    void testSyncCallbackAndAck() throws Exception {
+        DefaultRequestFuture future = new DefaultRequestFuture(CONNECTION_ID, "1");
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "1", future);
+        assertEquals(1, RpcAckCallbackSynchronizer.getPendingAckCount(CONNECTION_ID));
+        NotifySubscriberResponse response = new NotifySubscriberResponse();
+        response.setRequestId("1");
+        RpcAckCallbackSynchronizer.ackNotify(CONNECTION_ID, response);
+        assertTrue(future.isDone());
+        assertEquals(response, future.get(0L));
+        assertEquals(0, RpcAckCallbackSynchronizer.getPendingAckCount(CONNECTION_ID));
+    }
+    
+    @Test
+    void testSyncCallbackConflict() throws NacosException {
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "2", new DefaultRequestFuture(CONNECTION_ID, "2"));
+        assertThrows(NacosException.class, () -> RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "2",
+                new DefaultRequestFuture(CONNECTION_ID, "2")));
+    }
+    
+    @Test
+    void testClearFuture() throws NacosException {
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "3", new DefaultRequestFuture(CONNECTION_ID, "3"));
+        RpcAckCallbackSynchronizer.clearFuture(CONNECTION_ID, "3");
+        assertEquals(0, RpcAckCallbackSynchronizer.getPendingAckCount(CONNECTION_ID));
+        RpcAckCallbackSynchronizer.clearFuture("notExistConnection", "3");
+    }
+    
+    @Test
+    void testPendingAckMonitorNotCountedTwice() throws NacosException {
+        int before = MetricsMonitor.getPushPendingAckMonitor().get();
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "4", new DefaultRequestFuture(CONNECTION_ID, "4"));
+        RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "5", new DefaultRequestFuture(CONNECTION_ID, "5"));
+        assertThrows(NacosException.class, () -> RpcAckCallbackSynchronizer.syncCallback(CONNECTION_ID, "5",
+                new DefaultRequestFuture(CONNECTION_ID, "5")));
+        assertEquals(before + 2, MetricsMonitor.getPushPendingAckMonitor().get());
+        RpcAckCallbackSynchronizer.clearFuture(CONNECTION_ID, "4");
+        RpcAckCallbackSynchronizer.clearFuture(CONNECTION_ID, "4");
+        RpcAckCallbackSynchronizer.clearContext(CONNECTION_ID);
+        RpcAckCallbackSynchronizer.clearContext(CONNECTION_ID);
+        assertEquals(before, MetricsMonitor.getPushPendingAckMonitor().get());
+    }
+}
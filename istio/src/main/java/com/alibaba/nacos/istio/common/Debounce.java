@@ -14,102 +14,93 @@
  * limitations under the License.
  *
  */
-
 package com.alibaba.nacos.istio.common;
 
 import com.alibaba.nacos.istio.misc.IstioConfig;
+import com.alibaba.nacos.istio.misc.Loggers;
 import com.alibaba.nacos.istio.model.PushRequest;
+import com.alibaba.nacos.istio.util.IstioExecutor;
 
-import java.util.Date;
-import java.util.Queue;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 /**.
+ * Merge push requests until no new request arrives for {@link IstioConfig#getDebounceAfter()} or the first request has
+ * waited {@link IstioConfig#getDebounceMax()}, then hand the merged request to the push consumer.
+ *
  * @author RocketEngine26
  * @date 2022/8/20 9:05
  */
-public class Debounce implements Callable<PushRequest> {
-    private Date startDebounce;
-    
-    private Date lastConfigUpdateTime;
+public class Debounce {
     
     private final IstioConfig istioConfig;
     
-    private final Queue<PushRequest> pushRequestQueue;
+    private final Consumer<PushRequest> pushConsumer;
+    
+    private final BiConsumer<Runnable, Long> scheduler;
+    
+    private final LongSupplier clock;
     
     private PushRequest pushRequest;
     
-    private int debouncedEvents = 0;
+    private long startDebounce;
     
-    private boolean free = true;
+    private long lastConfigUpdateTime;
     
-    private boolean flag = false;
+    private int debouncedEvents = 0;
     
-    public Debounce(Queue<PushRequest> pushRequestQueue, IstioConfig istioConfig) {
-        this.pushRequestQueue = pushRequestQueue;
+    public Debounce(IstioConfig istioConfig, Consumer<PushRequest> pushConsumer) {
+        this(istioConfig, pushConsumer, IstioExecutor::scheduleDebounce, System::currentTimeMillis);
+    }
+    
+    Debounce(IstioConfig istioConfig, Consumer<PushRequest> pushConsumer, BiConsumer<Runnable, Long> scheduler,
+            LongSupplier clock) {
         this.istioConfig = istioConfig;
+        this.pushConsumer = pushConsumer;
+        this.scheduler = scheduler;
+        this.clock = clock;
     }
     
-    @Override
-    public PushRequest call() throws Exception {
-        while (true) {
-            if (flag) {
-                return pushRequest;
-            }
-            
-            PushRequest otherRequest = pushRequestQueue.poll();
-            
-            if (otherRequest != null) {
-                lastConfigUpdateTime = new Date();
-                if (debouncedEvents == 0) {
-                    startDebounce = lastConfigUpdateTime;
-                    pushRequest = otherRequest;
-                    new Timer().schedule(new TimerTask() {
-                        @Override
-                        public void run() {
-                            if (free) {
-                                try {
-                                    pushWorker();
-                                } catch (Exception e) {
-                                    throw new RuntimeException(e);
-                                }
-                            }
-                        }
-                    }, istioConfig.getDebounceAfter());
-                } else {
-                    merge(otherRequest);
-                }
-                debouncedEvents++;
-            }
+    /**
+     * Add a push request, the first request of a window schedules the quiet period check.
+     *
+     * @param otherRequest push request
+     */
+    public synchronized void add(PushRequest otherRequest) {
+        lastConfigUpdateTime = clock.getAsLong();
+        if (pushRequest == null) {
+            startDebounce = lastConfigUpdateTime;
+            pushRequest = otherRequest;
+            scheduler.accept(this::pushWorker, istioConfig.getDebounceAfter());
+        } else {
+            merge(otherRequest);
         }
+        debouncedEvents++;
     }
     
     private void pushWorker() {
-        long eventDelay = System.currentTimeMillis() - startDebounce.getTime();
-        long quietTime = System.currentTimeMillis() - lastConfigUpdateTime.getTime();
-        
-        if (eventDelay > istioConfig.getDebounceMax() || quietTime > istioConfig.getDebounceAfter()) {
-            if (pushRequest != null) {
-                free = false;
-                flag = true;
-                debouncedEvents = 0;
+        PushRequest toPush;
+        int events;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            long eventDelay = now - startDebounce;
+            long quietTime = now - lastConfigUpdateTime;
+            if (eventDelay < istioConfig.getDebounceMax() && quietTime < istioConfig.getDebounceAfter()) {
+                // never wait past debounceMax, or a steady stream of events keeps delaying the push.
+                long delay = Math.min(istioConfig.getDebounceAfter() - quietTime,
+                        istioConfig.getDebounceMax() - eventDelay);
+                scheduler.accept(this::pushWorker, delay);
+                return;
             }
-        } else {
-            new Timer().schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    if (free) {
-                        try {
-                            pushWorker();
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                }
-            }, istioConfig.getDebounceAfter() - quietTime);
+            toPush = pushRequest;
+            events = debouncedEvents;
+            pushRequest = null;
+            debouncedEvents = 0;
         }
+        Loggers.MAIN.debug("Push debounced {} events, full: {}, reason size: {}", events, toPush.isFull(),
+                toPush.getReason().size());
+        pushConsumer.accept(toPush);
     }
     
     private void merge(PushRequest otherRequest) {
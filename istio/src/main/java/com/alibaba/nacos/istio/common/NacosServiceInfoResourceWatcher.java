@@ -31,19 +31,13 @@ import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-
-import static com.alibaba.nacos.istio.util.IstioExecutor.cycleDebounce;
-import static com.alibaba.nacos.istio.util.IstioExecutor.debouncePushChange;
 
 /**
  * @author special.fy
@@ -53,9 +47,9 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
 
     private final Map<String, IstioService> serviceInfoMap = new ConcurrentHashMap<>(16);
     
-    private final Queue<PushRequest> pushRequestQueue = new ConcurrentLinkedQueue<>();
+    private Debounce debounce;
     
-    private boolean isInitial = true;
+    private volatile boolean isInitial = true;
     
     @Autowired
     private IstioConfig istioConfig;
@@ -66,7 +60,13 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
     @Autowired
     private EventProcessor eventProcessor;
     
-    public NacosServiceInfoResourceWatcher() {
+    /**
+     * Create the debounce before subscribing, events are delivered by several publisher threads and all of them
+     * should share the same debounce.
+     */
+    @PostConstruct
+    public void start() {
+        debounce = new Debounce(istioConfig, eventProcessor::notify);
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -85,11 +85,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
     }
     
     public void onEvent(com.alibaba.nacos.common.notify.Event event) {
-        if (isInitial) {
-            init();
-            isInitial = false;
-            cycleDebounce(new ToNotify());
-        }
+        initIfNecessary();
         
         if (event instanceof ClientOperationEvent.ClientRegisterServiceEvent) {
             // If service changed, push to all subscribers.
@@ -106,7 +102,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
             } else {
                 pushRequest = new PushRequest(serviceName, true);
             }
-            pushRequestQueue.add(pushRequest);
+            debounce.add(pushRequest);
         } else if (event instanceof ClientOperationEvent.ClientDeregisterServiceEvent) {
             ClientOperationEvent.ClientDeregisterServiceEvent clientDeregisterServiceEvent = (ClientOperationEvent
                     .ClientDeregisterServiceEvent) event;
@@ -121,7 +117,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
             } else {
                 pushRequest = new PushRequest(serviceName, full);
             }
-            pushRequestQueue.add(pushRequest);
+            debounce.add(pushRequest);
         } else if (event instanceof InfoChangeEvent.ServiceInfoChangeEvent) {
             InfoChangeEvent.ServiceInfoChangeEvent serviceInfoChangeEvent = (InfoChangeEvent.ServiceInfoChangeEvent) event;
             Service service = serviceInfoChangeEvent.getService();
@@ -129,7 +125,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
             PushRequest pushRequest = new PushRequest(serviceName, true);
             
             update(serviceName, service);
-            pushRequestQueue.add(pushRequest);
+            debounce.add(pushRequest);
             
         } else if (event instanceof InfoChangeEvent.InstanceInfoChangeEvent) {
             InfoChangeEvent.InstanceInfoChangeEvent instanceInfoChangeEvent = (InfoChangeEvent.InstanceInfoChangeEvent) event;
@@ -138,7 +134,19 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
     
             boolean full = update(serviceName, service);
             PushRequest pushRequest = new PushRequest(serviceName, full);
-            pushRequestQueue.add(pushRequest);
+            debounce.add(pushRequest);
+        }
+    }
+    
+    private void initIfNecessary() {
+        if (!isInitial) {
+            return;
+        }
+        synchronized (this) {
+            if (isInitial) {
+                init();
+                isInitial = false;
+            }
         }
     }
     
@@ -157,7 +165,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
                     continue;
                 }
                 serviceInfoMap.put(serviceName, new IstioService(service, serviceInfo));
-                pushRequestQueue.add(new PushRequest(serviceName, true));
+                debounce.add(new PushRequest(serviceName, true));
             }
         }
     }
@@ -177,25 +185,4 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
         }
         return false;
     }
-    
-    private class ToNotify implements Runnable {
-        @Override
-        public void run() {
-            while (true) {
-                if (pushRequestQueue.size() > 0) {
-                    PushRequest updatePush;
-                    Future<PushRequest> futureUpdate = debouncePushChange(new Debounce(pushRequestQueue, istioConfig));
-    
-                    try {
-                        updatePush = futureUpdate.get();
-                        if (updatePush != null) {
-                            eventProcessor.notify(updatePush);
-                        }
-                    } catch (InterruptedException | ExecutionException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.istio.model;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.google.protobuf.Any;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -45,6 +46,12 @@ public class IstioService {
     
     private final Date createTimeStamp;
     
+    /**
+     * Endpoint resource built from this snapshot of hosts. A changed service is a new {@link IstioService}, so the
+     * cache never needs to be invalidated.
+     */
+    private volatile EndpointResource endpointResource;
+    
     public IstioService(Service service, ServiceInfo serviceInfo) {
         this.name = serviceInfo.getName();
         this.groupName = serviceInfo.getGroupName();
@@ -117,4 +124,34 @@ public class IstioService {
     public Date getCreateTimeStamp() {
         return createTimeStamp;
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the cached endpoint resource of this service.
+     *
+     * @param clusterName cluster name of the endpoint resource
+     * @return cached endpoint resource, null if not built or built for another cluster name
+     */
+    public Any getEndpointResource(String clusterName) {
+        EndpointResource cached = endpointResource;
+        if (cached != null && cached.clusterName.equals(clusterName)) {
+            return cached.resource;
+        }
+        return null;
+    }
+    
+    public void setEndpointResource(String clusterName, Any resource) {
+        this.endpointResource = new EndpointResource(clusterName, resource);
+    }
+    
+    private static class EndpointResource {
+        
+        private final String clusterName;
+        
+        private final Any resource;
+        
+        private EndpointResource(String clusterName, Any resource) {
+            this.clusterName = clusterName;
+            this.resource = resource;
+        }
+    }
+}
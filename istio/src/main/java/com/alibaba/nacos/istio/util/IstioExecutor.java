@@ -24,6 +24,8 @@ import com.alibaba.nacos.istio.IstioApp;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author special.fy
@@ -33,23 +35,15 @@ public class IstioExecutor {
             .newSingleExecutorService(ClassUtils.getCanonicalName(IstioApp.class),
                 new NameThreadFactory("com.alibaba.nacos.istio.event.handle"));
     
-    private static final ExecutorService PUSH_CHANGE_EXECUTOR = ExecutorFactory.Managed
-            .newSingleExecutorService(ClassUtils.getCanonicalName(IstioApp.class),
+    private static final ScheduledExecutorService DEBOUNCE_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(IstioApp.class),
                     new NameThreadFactory("com.alibaba.nacos.istio.pushchange.debounce"));
-    
-    private static final ExecutorService CYCLE_DEBOUNCE_EXECUTOR = ExecutorFactory.Managed
-            .newSingleExecutorService(ClassUtils.getCanonicalName(IstioApp.class),
-                    new NameThreadFactory("com.alibaba.nacos.istio.cycle.debounce"));
 
     public static <V> Future<V> asyncHandleEvent(Callable<V> task) {
         return EVENT_HANDLE_EXECUTOR.submit(task);
     }
     
-    public static <V> Future<V> debouncePushChange(Callable<V> debounce) {
-        return PUSH_CHANGE_EXECUTOR.submit(debounce);
-    }
-    
-    public static void cycleDebounce(Runnable toNotify) {
-        CYCLE_DEBOUNCE_EXECUTOR.submit(toNotify);
+    public static void scheduleDebounce(Runnable debounce, long delayMillis) {
+        DEBOUNCE_EXECUTOR.schedule(debounce, delayMillis, TimeUnit.MILLISECONDS);
     }
 }
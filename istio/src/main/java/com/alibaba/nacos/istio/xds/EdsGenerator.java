@@ -134,6 +134,10 @@ public final class EdsGenerator implements ApiGenerator<Any> {
         if (istioService.getHosts().isEmpty()) {
             return null;
         }
+        Any cached = istioService.getEndpointResource(name);
+        if (cached != null) {
+            return cached;
+        }
         
         List<IstioEndpoint> istioEndpoints = istioService.getHosts();
         Map<String, LocalityLbEndpoints.Builder> llbEndpointsBuilder = new HashMap<>(istioEndpoints.size());
@@ -166,6 +170,8 @@ public final class EdsGenerator implements ApiGenerator<Any> {
         }
         
         ClusterLoadAssignment cla = ClusterLoadAssignment.newBuilder().setClusterName(name).addAllEndpoints(listlle).build();
-        return Any.newBuilder().setValue(cla.toByteString()).setTypeUrl(ENDPOINT_TYPE).build();
+        Any any = Any.newBuilder().setValue(cla.toByteString()).setTypeUrl(ENDPOINT_TYPE).build();
+        istioService.setEndpointResource(name, any);
+        return any;
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.common;
+
+import com.alibaba.nacos.istio.misc.IstioConfig;
+import com.alibaba.nacos.istio.model.PushRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DebounceTest {
+    
+    private final List<PushRequest> pushed = new ArrayList<>();
+    
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+    
+    private long now;
+    
+    private int sequence;
+    
+    private IstioConfig istioConfig;
+    
+    private Debounce debounce;
+    
+    @BeforeEach
+    void setUp() {
+        istioConfig = new IstioConfig();
+        ReflectionTestUtils.setField(istioConfig, "debounceAfter", 100L);
+        ReflectionTestUtils.setField(istioConfig, "debounceMax", 500L);
+        debounce = new Debounce(istioConfig, pushed::add,
+                (task, delay) -> tasks.add(new ScheduledTask(now + delay, sequence++, task)), () -> now);
+    }
+    
+    /**
+     * Move the virtual clock forward and run every task which is due in order.
+     */
+    private void advance(long millis) {
+        long target = now + millis;
+        while (!tasks.isEmpty() && tasks.peek().time <= target) {
+            ScheduledTask task = tasks.poll();
+            now = task.time;
+            task.runnable.run();
+        }
+        now = target;
+    }
+    
+    @Test
+    void testPushAfterQuietWindow() {
+        debounce.add(new PushRequest("a", false));
+        debounce.add(new PushRequest("b", true));
+        advance(99L);
+        assertTrue(pushed.isEmpty());
+        advance(1L);
+        assertEquals(1, pushed.size());
+        PushRequest merged = pushed.get(0);
+        assertTrue(merged.isFull());
+        assertTrue(merged.getReason().contains("a"));
+        assertTrue(merged.getReason().contains("b"));
+    }
+    
+    @Test
+    void testDelayPushWhenEventsKeepArriving() {
+        debounce.add(new PushRequest("a", false));
+        advance(60L);
+        debounce.add(new PushRequest("b", false));
+        advance(40L);
+        assertTrue(pushed.isEmpty());
+        advance(59L);
+        assertTrue(pushed.isEmpty());
+        advance(1L);
+        assertEquals(1, pushed.size());
+        assertEquals(160L, now);
+    }
+    
+    @Test
+    void testForcePushAfterDebounceMax() {
+        ReflectionTestUtils.setField(istioConfig, "debounceAfter", 400L);
+        // events arrive faster than the quiet window, only debounceMax can trigger the push.
+        while (pushed.isEmpty() && now < 2000L) {
+            debounce.add(new PushRequest("reason", false));
+            advance(20L);
+        }
+        assertEquals(1, pushed.size());
+        assertEquals(500L, now);
+    }
+    
+    private static class ScheduledTask implements Comparable<ScheduledTask> {
+        
+        private final long time;
+        
+        private final int sequence;
+        
+        private final Runnable runnable;
+        
+        ScheduledTask(long time, int sequence, Runnable runnable) {
+            this.time = time;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+        
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int result = Long.compare(time, other.time);
+            return result != 0 ? result : Integer.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.xds;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.istio.common.ResourceSnapshot;
+import com.alibaba.nacos.istio.misc.IstioConfig;
+import com.alibaba.nacos.istio.model.IstioResources;
+import com.alibaba.nacos.istio.model.IstioService;
+import com.alibaba.nacos.istio.model.PushRequest;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.google.protobuf.Any;
+import io.envoyproxy.envoy.config.endpoint.v3.ClusterLoadAssignment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EdsGeneratorTest {
+    
+    private static final String SERVICE_KEY = "svc.DEFAULT-GROUP.ns";
+    
+    private final Service service = Service.newService("ns", "DEFAULT_GROUP", "svc");
+    
+    private final Map<String, IstioService> istioServiceMap = new HashMap<>();
+    
+    private ResourceSnapshot snapshot;
+    
+    @BeforeEach
+    void setUp() {
+        IstioConfig istioConfig = new IstioConfig();
+        ReflectionTestUtils.setField(istioConfig, "domainSuffix", "nacos");
+        snapshot = mock(ResourceSnapshot.class);
+        when(snapshot.getIstioConfig()).thenReturn(istioConfig);
+        when(snapshot.getIstioResources()).thenReturn(new IstioResources(istioServiceMap));
+    }
+    
+    @Test
+    void testEndpointResourceReusedUntilHostsChanged() throws Exception {
+        IstioService oldService = new IstioService(service, buildServiceInfo("1.1.1.1"));
+        istioServiceMap.put(SERVICE_KEY, oldService);
+        Any first = generateOne();
+        assertSame(first, generateOne());
+        assertEquals(1, ClusterLoadAssignment.parseFrom(first.getValue()).getEndpoints(0).getLbEndpointsCount());
+        
+        istioServiceMap.put(SERVICE_KEY, new IstioService(service, buildServiceInfo("1.1.1.1", "2.2.2.2"),
+                oldService));
+        Any rebuilt = generateOne();
+        assertNotSame(first, rebuilt);
+        assertEquals(2, ClusterLoadAssignment.parseFrom(rebuilt.getValue()).getEndpoints(0).getLbEndpointsCount());
+        assertSame(rebuilt, generateOne());
+    }
+    
+    private Any generateOne() {
+        PushRequest pushRequest = new PushRequest(snapshot, true);
+        pushRequest.addReason(SERVICE_KEY);
+        List<Any> result = EdsGenerator.getInstance().generate(pushRequest);
+        assertEquals(1, result.size());
+        return result.get(0);
+    }
+    
+    private ServiceInfo buildServiceInfo(String... ips) {
+        List<Instance> hosts = new ArrayList<>();
+        for (String ip : ips) {
+            Instance instance = new Instance();
+            instance.setIp(ip);
+            instance.setPort(8080);
+            hosts.add(instance);
+        }
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@svc");
+        serviceInfo.setHosts(hosts);
+        return serviceInfo;
+    }
+}
@@ -38,6 +38,22 @@ public interface LockManager {
      */
     AtomicLockService getMutexLock(LockKey lockKey);
     
+    /**
+     * get mutex lock if it exists, without creating it.
+     *
+     * @param lockKey lock key
+     * @return AbstractAtomicLock or null if not exist
+     */
+    AtomicLockService findMutexLock(LockKey lockKey);
+    
+    /**
+     * remove all mutex locks which are released or expired at the timestamp.
+     *
+     * @param timestamp timestamp in milliseconds carried by the expire operation
+     * @return count of removed locks
+     */
+    int removeClearLocks(long timestamp);
+    
     /**
      * show all atomicLock entity to snapshot save.
      *
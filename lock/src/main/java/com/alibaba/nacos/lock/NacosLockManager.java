@@ -61,6 +61,25 @@ public class NacosLockManager implements LockManager {
         });
     }
     
+    @Override
+    public AtomicLockService findMutexLock(LockKey lockKey) {
+        if (lockKey == null) {
+            return null;
+        }
+        return atomicLockMap.get(lockKey);
+    }
+    
+    @Override
+    public int removeClearLocks(long timestamp) {
+        int count = 0;
+        for (Map.Entry<LockKey, AtomicLockService> entry : atomicLockMap.entrySet()) {
+            if (entry.getValue().isClear(timestamp) && atomicLockMap.remove(entry.getKey(), entry.getValue())) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
     @Override
     public ConcurrentHashMap<LockKey, AtomicLockService> showLocks() {
         return atomicLockMap;
@@ -60,4 +60,11 @@ public interface AtomicLockService {
      * @return boolean
      */
     Boolean isClear();
+    
+    /**
+     * judge lock is clear to gc at the timestamp, the result only depends on the state and the timestamp.
+     * @param timestamp timestamp in milliseconds
+     * @return boolean
+     */
+    Boolean isClear(long timestamp);
 }
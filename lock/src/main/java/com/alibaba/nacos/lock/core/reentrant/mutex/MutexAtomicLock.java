@@ -36,7 +36,7 @@ public class MutexAtomicLock extends AbstractAtomicLock {
     
     private final AtomicInteger state;
     
-    private Long expiredTimestamp;
+    private volatile Long expiredTimestamp;
     
     public MutexAtomicLock(String key) {
         super(key);
@@ -60,7 +60,8 @@ public class MutexAtomicLock extends AbstractAtomicLock {
     
     @Override
     public Boolean autoExpire() {
-        return System.currentTimeMillis() >= this.expiredTimestamp;
+        Long expiredTimestamp = this.expiredTimestamp;
+        return expiredTimestamp != null && System.currentTimeMillis() >= expiredTimestamp;
     }
     
     @Override
@@ -68,4 +69,10 @@ public class MutexAtomicLock extends AbstractAtomicLock {
         return EMPTY.equals(state.get()) || autoExpire();
     }
     
+    @Override
+    public Boolean isClear(long timestamp) {
+        Long expiredTimestamp = this.expiredTimestamp;
+        return EMPTY.equals(state.get()) || (expiredTimestamp != null && timestamp >= expiredTimestamp);
+    }
+    
 }
@@ -18,6 +18,8 @@ package com.alibaba.nacos.lock.service.impl;
 
 import com.alibaba.nacos.api.lock.model.LockInstance;
 import com.alibaba.nacos.api.lock.remote.LockOperationEnum;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
@@ -46,6 +48,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -60,8 +64,14 @@ public class LockOperationServiceImpl extends RequestProcessor4CP implements Loc
     
     private static final Logger LOGGER = LoggerFactory.getLogger(LockOperationServiceImpl.class);
     
+    private static final long CLEAN_INTERVAL_MILLS = 60_000L;
+    
     private final Serializer serializer = SerializeFactory.getDefault();
     
+    private final ByteString trueBytes = ByteString.copyFrom(serializer.serialize(Boolean.TRUE));
+    
+    private final ByteString falseBytes = ByteString.copyFrom(serializer.serialize(Boolean.FALSE));
+    
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     
     private final ReentrantReadWriteLock.ReadLock readLock = lock.readLock();
@@ -82,6 +92,10 @@ public class LockOperationServiceImpl extends RequestProcessor4CP implements Loc
                 PropertiesConstant.DEFAULT_AUTO_EXPIRE_TIME);
         this.maxExpireTime = EnvUtil.getProperty(PropertiesConstant.MAX_AUTO_EXPIRE, Long.class,
                 PropertiesConstant.MAX_AUTO_EXPIRE_TIME);
+        ScheduledExecutorService expireExecutor = ExecutorFactory.newSingleScheduledExecutorService(
+                new NameThreadFactory("com.alibaba.nacos.lock.expire"));
+        expireExecutor.scheduleWithFixedDelay(this::expireLocks, CLEAN_INTERVAL_MILLS, CLEAN_INTERVAL_MILLS,
+                TimeUnit.MILLISECONDS);
     }
     
     @Override
@@ -90,19 +104,24 @@ public class LockOperationServiceImpl extends RequestProcessor4CP implements Loc
         lock.lock();
         try {
             LockOperationEnum lockOperation = LockOperationEnum.valueOf(request.getOperation());
-            Object data = null;
+            if (lockOperation == LockOperationEnum.EXPIRE) {
+                return removeClearLocks(request);
+            }
+            if (lockOperation != LockOperationEnum.ACQUIRE && lockOperation != LockOperationEnum.RELEASE) {
+                throw new NacosLockException("lockOperation is not exist.");
+            }
+            final MutexLockRequest mutexLockRequest = serializer.deserialize(request.getData().toByteArray());
+            Boolean data;
             if (lockOperation == LockOperationEnum.ACQUIRE) {
-                final MutexLockRequest mutexLockRequest = serializer.deserialize(request.getData().toByteArray());
                 data = acquireLock(mutexLockRequest);
-            } else if (lockOperation == LockOperationEnum.RELEASE) {
-                final MutexLockRequest mutexLockRequest = serializer.deserialize(request.getData().toByteArray());
-                data = releaseLock(mutexLockRequest);
             } else {
-                throw new NacosLockException("lockOperation is not exist.");
+                data = releaseLock(mutexLockRequest);
             }
-            LOGGER.info("thread: {}, operator: {}, request: {}, success: {}", Thread.currentThread().getName(),
-                    lockOperation, serializer.deserialize(request.getData().toByteArray()), data);
-            ByteString bytes = ByteString.copyFrom(serializer.serialize(data));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("thread: {}, operator: {}, request: {}, success: {}", Thread.currentThread().getName(),
+                        lockOperation, mutexLockRequest, data);
+            }
+            ByteString bytes = Boolean.TRUE.equals(data) ? trueBytes : falseBytes;
             return Response.newBuilder().setSuccess(true).setData(bytes).build();
         } catch (NacosLockException e) {
             return Response.newBuilder().setSuccess(false).setErrMsg(e.getMessage()).build();
@@ -111,6 +130,41 @@ public class LockOperationServiceImpl extends RequestProcessor4CP implements Loc
         }
     }
     
+    /**
+     * Remove the locks which are released or expired at the timestamp carried by the log, so that every node removes
+     * the same locks no matter when it applies the log. A released or expired lock can be acquired by anyone just like
+     * an absent one, only releasing a removed expired lock returns false instead of true.
+     */
+    private Response removeClearLocks(WriteRequest request) {
+        Long timestamp = serializer.deserialize(request.getData().toByteArray(), Long.class);
+        int count = lockManager.removeClearLocks(timestamp);
+        if (count > 0) {
+            LOGGER.info("remove {} released or expired locks at {}.", count, timestamp);
+        }
+        return Response.newBuilder().setSuccess(true).setData(trueBytes).build();
+    }
+    
+    /**
+     * Locks which expire without being released are never removed by {@link #releaseLock(MutexLockRequest)}, so the
+     * leader periodically replicates an expire operation with its own timestamp to remove them from all nodes.
+     */
+    void expireLocks() {
+        try {
+            if (!protocol.isLeader(group())) {
+                return;
+            }
+            WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group())
+                    .setData(ByteString.copyFrom(serializer.serialize(getNowTimestamp())))
+                    .setOperation(LockOperationEnum.EXPIRE.name()).build();
+            Response response = protocol.write(writeRequest);
+            if (!response.getSuccess()) {
+                LOGGER.warn("expire locks fail, errorMsg: {}", response.getErrMsg());
+            }
+        } catch (Throwable e) {
+            LOGGER.error("expire locks fail.", e);
+        }
+    }
+    
     private Boolean releaseLock(MutexLockRequest request) {
         LockInfo lockInfo = request.getLockInfo();
         AtomicLockService mutexLock = lockManager.getMutexLock(lockInfo.getKey());
@@ -140,6 +194,9 @@ public class LockOperationServiceImpl extends RequestProcessor4CP implements Loc
         } else {
             lockInfo.setEndTime(Math.min(maxExpireTime, expiredTime) + getNowTimestamp());
         }
+        if (isHeld(lockInfo.getKey())) {
+            return false;
+        }
         request.setLockInfo(lockInfo);
         WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group())
                 .setData(ByteString.copyFrom(serializer.serialize(request)))
@@ -161,6 +218,16 @@ public class LockOperationServiceImpl extends RequestProcessor4CP implements Loc
         }
     }
     
+    /**
+     * Whether the lock is held by others and not expired in the local state machine. A held lock will fail to acquire
+     * anyway, so there is no need to append a raft log for it. The local state may fall behind the leader slightly,
+     * which only makes the caller retry once more.
+     */
+    private boolean isHeld(LockKey lockKey) {
+        AtomicLockService mutexLock = lockManager.findMutexLock(lockKey);
+        return mutexLock != null && !mutexLock.isClear();
+    }
+    
     @Override
     public List<SnapshotOperation> loadSnapshotOperate() {
         return Collections.singletonList(new NacosLockSnapshotOperation(lockManager, lock.writeLock()));
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.lock;
 
+import com.alibaba.nacos.api.lock.common.LockConstants;
 import com.alibaba.nacos.lock.core.reentrant.AtomicLockService;
 import com.alibaba.nacos.lock.core.reentrant.mutex.ClientAtomicLock;
 import com.alibaba.nacos.lock.exception.NacosLockException;
@@ -30,6 +31,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -59,6 +62,27 @@ public class LockManagerTest {
         });
     }
     
+    @Test
+    public void testRemoveClearLocks() {
+        LockKey heldKey = new LockKey(LockConstants.NACOS_LOCK_TYPE, "held");
+        LockInfo heldInfo = new LockInfo();
+        heldInfo.setEndTime(System.currentTimeMillis() + 2_000_000);
+        assertTrue(lockManager.getMutexLock(heldKey).tryLock(heldInfo));
+        
+        LockKey expiredKey = new LockKey(LockConstants.NACOS_LOCK_TYPE, "expired");
+        LockInfo expiredInfo = new LockInfo();
+        expiredInfo.setEndTime(System.currentTimeMillis() - 2_000_000);
+        assertTrue(lockManager.getMutexLock(expiredKey).tryLock(expiredInfo));
+        
+        LockKey releasedKey = new LockKey(LockConstants.NACOS_LOCK_TYPE, "released");
+        lockManager.getMutexLock(releasedKey);
+        
+        assertEquals(2, lockManager.removeClearLocks(heldInfo.getEndTime() - 1_000_000));
+        assertNotNull(lockManager.findMutexLock(heldKey));
+        assertNull(lockManager.findMutexLock(expiredKey));
+        assertNull(lockManager.findMutexLock(releasedKey));
+    }
+    
     @Test
     public void testLockFactory() throws NoSuchFieldException, IllegalAccessException {
         Field factoryMap = NacosLockManager.class.getDeclaredField("factoryMap");
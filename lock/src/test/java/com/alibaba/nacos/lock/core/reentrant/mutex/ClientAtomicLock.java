@@ -64,4 +64,9 @@ public class ClientAtomicLock extends AbstractAtomicLock {
     public Boolean isClear() {
         return state.get() == null || autoExpire();
     }
+    
+    @Override
+    public Boolean isClear(long timestamp) {
+        return state.get() == null || timestamp >= this.expireTimestamp;
+    }
 }
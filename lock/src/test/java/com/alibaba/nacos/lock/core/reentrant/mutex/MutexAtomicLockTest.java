@@ -28,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -52,6 +53,20 @@ public class MutexAtomicLockTest {
         assertTrue(lock.unLock(lockInfo));
     }
     
+    @Test
+    public void testIsClear() {
+        MutexAtomicLock lock = new MutexAtomicLock("key");
+        assertTrue(lock.isClear());
+        assertFalse(lock.autoExpire());
+        
+        LockInfo lockInfo = new LockInfo();
+        lockInfo.setEndTime(System.currentTimeMillis() + 2_000_000);
+        assertTrue(lock.tryLock(lockInfo));
+        assertFalse(lock.isClear());
+        assertTrue(lock.unLock(lockInfo));
+        assertTrue(lock.isClear());
+    }
+    
     @Test
     public void testAutoExpire() {
         Mockito.when(lockManager.getMutexLock(Mockito.any()))
@@ -45,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.alibaba.nacos.lock.constant.Constants.LOCK_ACQUIRE_SERVICE_GROUP_V2;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -155,6 +156,22 @@ public class LockOperationServiceImplTest {
         lockOperationService.lock(lockInstance);
     }
     
+    @Test
+    public void testLockHeldWithoutWrite() throws Exception {
+        buildService();
+        LockKey lockKey = new LockKey(LockConstants.NACOS_LOCK_TYPE, "key");
+        MutexAtomicLock mutexLock = new MutexAtomicLock("key");
+        LockInfo lockInfo = new LockInfo();
+        lockInfo.setKey(lockKey);
+        lockInfo.setEndTime(System.currentTimeMillis() + 2_000_000);
+        mutexLock.tryLock(lockInfo);
+        Mockito.when(lockManager.findMutexLock(lockKey)).thenReturn(mutexLock);
+        
+        LockInstance lockInstance = new LockInstance("key", 1_000L, LockConstants.NACOS_LOCK_TYPE);
+        assertFalse(lockOperationService.lock(lockInstance));
+        Mockito.verify(cpProtocol, Mockito.never()).write(Mockito.any());
+    }
+    
     @Test
     public void testOnApply() {
         buildService();
@@ -167,6 +184,46 @@ public class LockOperationServiceImplTest {
         assertTrue(serializer.<Boolean>deserialize(response.getData().toByteArray()));
     }
     
+    @Test
+    public void testOnApplyExpire() {
+        buildService();
+        long timestamp = 1 << 10;
+        Mockito.when(lockManager.removeClearLocks(timestamp)).thenReturn(1);
+        
+        WriteRequest request = WriteRequest.newBuilder().setGroup(lockOperationService.group())
+                .setData(ByteString.copyFrom(serializer.serialize(timestamp)))
+                .setOperation(LockOperationEnum.EXPIRE.name()).build();
+        Response response = lockOperationService.onApply(request);
+        assertTrue(response.getSuccess());
+        Mockito.verify(lockManager).removeClearLocks(timestamp);
+    }
+    
+    @Test
+    public void testExpireLocksByLeader() throws Exception {
+        buildService();
+        long timestamp = 1 << 10;
+        Mockito.when(lockOperationService.getNowTimestamp()).thenReturn(timestamp);
+        Mockito.when(cpProtocol.isLeader(LOCK_ACQUIRE_SERVICE_GROUP_V2)).thenReturn(true);
+        Mockito.when(cpProtocol.write(Mockito.any())).thenAnswer((i) -> {
+            WriteRequest request = i.getArgument(0);
+            assertEquals(LockOperationEnum.EXPIRE.name(), request.getOperation());
+            assertEquals(timestamp, (long) serializer.deserialize(request.getData().toByteArray(), Long.class));
+            return getResponse();
+        });
+        
+        lockOperationService.expireLocks();
+        Mockito.verify(cpProtocol).write(Mockito.any());
+    }
+    
+    @Test
+    public void testExpireLocksByFollower() throws Exception {
+        buildService();
+        Mockito.when(cpProtocol.isLeader(LOCK_ACQUIRE_SERVICE_GROUP_V2)).thenReturn(false);
+        
+        lockOperationService.expireLocks();
+        Mockito.verify(cpProtocol, Mockito.never()).write(Mockito.any());
+    }
+    
     public WriteRequest getRequest(LockOperationEnum lockOperationEnum) {
         MutexLockRequest mutexLockRequest = new MutexLockRequest();
         LockInfo lockInfo = new LockInfo();
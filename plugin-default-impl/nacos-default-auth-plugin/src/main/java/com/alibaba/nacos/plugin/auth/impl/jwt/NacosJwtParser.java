@@ -19,6 +19,8 @@ package com.alibaba.nacos.plugin.auth.impl.jwt;
 import com.alibaba.nacos.plugin.auth.exception.AccessException;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
 import com.alibaba.nacos.plugin.auth.impl.utils.Base64Decode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,10 +39,19 @@ public class NacosJwtParser {
 
     private static final Logger LOG = LoggerFactory.getLogger(NacosJwtParser.class);
     
+    private static final int MAX_VERIFIED_PAYLOAD_SIZE = 10000;
+    
     private final NacosSignatureAlgorithm signatureAlgorithm;
     
     private final Key key;
     
+    /**
+     * key: token, value: payload of token whose signature has been verified by {@link #key}. Bounded, the least
+     * recently used tokens are evicted when full, and expired tokens are evicted once they are parsed.
+     */
+    private final Cache<String, NacosJwtPayload> verifiedPayloads = CacheBuilder.newBuilder()
+            .maximumSize(MAX_VERIFIED_PAYLOAD_SIZE).build();
+    
     public NacosJwtParser(String base64edKey) {
         this.validKey(base64edKey);
         byte[] decode = Base64Decode.decode(base64edKey);
@@ -80,12 +91,46 @@ public class NacosJwtParser {
         return new JwtBuilder();
     }
     
+    /**
+     * Parse token to user, the token should be signed by the key of this parser and not expired.
+     *
+     * @param token token
+     * @return user of token
+     * @throws AccessException if token is invalid or expired
+     */
     public NacosUser parse(String token) throws AccessException {
-        return NacosSignatureAlgorithm.verify(token, key);
+        NacosJwtPayload payload = getVerifiedPayload(token);
+        if (isExpired(payload)) {
+            verifiedPayloads.invalidate(token);
+            throw new AccessException("token expired!");
+        }
+        NacosUser user = new NacosUser(payload.getSub());
+        user.setToken(token);
+        return user;
     }
     
     public long getExpireTimeInSeconds(String token) throws AccessException {
-        return NacosSignatureAlgorithm.getExpiredTimeInSeconds(token, key);
+        return getVerifiedPayload(token).getExp();
+    }
+    
+    /**
+     * Get the payload of token, the signature of each token is only verified once and the verified payload is reused
+     * by later parse of the same token.
+     */
+    private NacosJwtPayload getVerifiedPayload(String token) throws AccessException {
+        NacosJwtPayload payload = null == token ? null : verifiedPayloads.getIfPresent(token);
+        if (null != payload) {
+            return payload;
+        }
+        payload = NacosSignatureAlgorithm.verifyPayload(token, key);
+        if (!isExpired(payload)) {
+            verifiedPayloads.put(token, payload);
+        }
+        return payload;
+    }
+    
+    private boolean isExpired(NacosJwtPayload payload) {
+        return payload.getExp() < TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
     }
     
     public class JwtBuilder {
@@ -91,6 +91,24 @@ public final class NacosSignatureAlgorithm {
      * @throws AccessException access exception
      */
     public static NacosUser verify(String jwt, Key key) throws AccessException {
+        NacosJwtPayload nacosJwtPayload = verifyPayload(jwt, key);
+        if (nacosJwtPayload.getExp() >= TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())) {
+            NacosUser user = new NacosUser(nacosJwtPayload.getSub());
+            user.setToken(jwt);
+            return user;
+        }
+        throw new AccessException("token expired!");
+    }
+    
+    /**
+     * verify signature of jwt and decode the payload, without checking whether the jwt is expired.
+     *
+     * @param jwt complete jwt string
+     * @param key for signature
+     * @return payload of jwt
+     * @throws AccessException access exception
+     */
+    public static NacosJwtPayload verifyPayload(String jwt, Key key) throws AccessException {
         if (StringUtils.isBlank(jwt)) {
             throw new AccessException("user not found!");
         }
@@ -106,9 +124,7 @@ public final class NacosSignatureAlgorithm {
         if (signatureAlgorithm == null) {
             throw new AccessException("unsupported signature algorithm");
         }
-        NacosUser user = signatureAlgorithm.verify(header, payload, signature, key);
-        user.setToken(jwt);
-        return user;
+        return signatureAlgorithm.verifyPayload(header, payload, signature, key);
     }
     
     /**
@@ -122,12 +138,7 @@ public final class NacosSignatureAlgorithm {
      * @throws AccessException access exception
      */
     public NacosUser verify(String header, String payload, String signature, Key key) throws AccessException {
-        Mac macInstance = getMacInstance(key);
-        byte[] bytes = macInstance.doFinal((header + JWT_SEPERATOR + payload).getBytes(StandardCharsets.US_ASCII));
-        if (!URL_BASE64_ENCODER.encodeToString(bytes).equals(signature)) {
-            throw new AccessException("Invalid signature");
-        }
-        NacosJwtPayload nacosJwtPayload = JacksonUtils.toObj(URL_BASE64_DECODER.decode(payload), NacosJwtPayload.class);
+        NacosJwtPayload nacosJwtPayload = verifyPayload(header, payload, signature, key);
         if (nacosJwtPayload.getExp() >= TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())) {
             return new NacosUser(nacosJwtPayload.getSub());
         }
@@ -144,22 +155,7 @@ public final class NacosSignatureAlgorithm {
      * @throws AccessException access exception
      */
     public static long getExpiredTimeInSeconds(String jwt, Key key) throws AccessException {
-        if (StringUtils.isBlank(jwt)) {
-            throw new AccessException("user not found!");
-        }
-        String[] split = jwt.split("\\.");
-        if (split.length != JWT_PARTS) {
-            throw new AccessException("token invalid!");
-        }
-        String header = split[HEADER_POSITION];
-        String payload = split[PAYLOAD_POSITION];
-        String signature = split[SIGNATURE_POSITION];
-        
-        NacosSignatureAlgorithm signatureAlgorithm = MAP.get(header);
-        if (signatureAlgorithm == null) {
-            throw new AccessException("unsupported signature algorithm");
-        }
-        return signatureAlgorithm.getExpireTimeInSeconds(header, payload, signature, key);
+        return verifyPayload(jwt, key).getExp();
     }
     
     /**
@@ -174,13 +170,17 @@ public final class NacosSignatureAlgorithm {
      */
     public long getExpireTimeInSeconds(String header, String payload, String signature, Key key)
             throws AccessException {
+        return verifyPayload(header, payload, signature, key).getExp();
+    }
+    
+    private NacosJwtPayload verifyPayload(String header, String payload, String signature, Key key)
+            throws AccessException {
         Mac macInstance = getMacInstance(key);
         byte[] bytes = macInstance.doFinal((header + JWT_SEPERATOR + payload).getBytes(StandardCharsets.US_ASCII));
         if (!URL_BASE64_ENCODER.encodeToString(bytes).equals(signature)) {
             throw new AccessException("Invalid signature");
         }
-        NacosJwtPayload nacosJwtPayload = JacksonUtils.toObj(URL_BASE64_DECODER.decode(payload), NacosJwtPayload.class);
-        return nacosJwtPayload.getExp();
+        return JacksonUtils.toObj(URL_BASE64_DECODER.decode(payload), NacosJwtPayload.class);
     }
     
     private NacosSignatureAlgorithm(String alg, String jcaName, String header) {
@@ -71,11 +71,7 @@ public abstract class AbstractCachedRoleService implements NacosRoleService {
                 tmpRoleSet.add(roleInfo.getRole());
             }
             
-            Map<String, List<PermissionInfo>> tmpPermissionInfoMap = new ConcurrentHashMap<>(16);
-            for (String role : tmpRoleSet) {
-                Page<PermissionInfo> permissionInfoPage = getPermissions(role, DEFAULT_PAGE_NO, Integer.MAX_VALUE);
-                tmpPermissionInfoMap.put(role, permissionInfoPage.getPageItems());
-            }
+            Map<String, List<PermissionInfo>> tmpPermissionInfoMap = loadPermissions(tmpRoleSet);
             
             roleSet = tmpRoleSet;
             roleInfoMap = tmpRoleInfoMap;
@@ -84,4 +80,19 @@ public abstract class AbstractCachedRoleService implements NacosRoleService {
             Loggers.AUTH.warn("[LOAD-ROLES] load failed", e);
         }
     }
+    
+    /**
+     * Load permissions of the roles for reloading the cache, query permissions role by role by default.
+     *
+     * @param roles all roles
+     * @return permissions grouped by role
+     */
+    protected Map<String, List<PermissionInfo>> loadPermissions(Set<String> roles) {
+        Map<String, List<PermissionInfo>> result = new ConcurrentHashMap<>(16);
+        for (String role : roles) {
+            Page<PermissionInfo> permissionInfoPage = getPermissions(role, DEFAULT_PAGE_NO, Integer.MAX_VALUE);
+            result.put(role, permissionInfoPage.getPageItems());
+        }
+        return result;
+    }
 }
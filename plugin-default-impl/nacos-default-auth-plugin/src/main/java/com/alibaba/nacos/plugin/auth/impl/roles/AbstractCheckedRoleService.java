@@ -28,6 +28,8 @@ import com.alibaba.nacos.plugin.auth.impl.constant.AuthConstants;
 import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
 import com.alibaba.nacos.plugin.auth.impl.persistence.RoleInfo;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import java.util.List;
 import java.util.Properties;
@@ -42,8 +44,17 @@ import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
  */
 public abstract class AbstractCheckedRoleService extends AbstractCachedRoleService implements NacosRoleService {
     
+    private static final int MAX_CACHED_PERMISSION_PATTERNS = 10000;
+    
     private final AuthConfigs authConfigs;
     
+    /**
+     * permission resource -> compiled resource pattern, shared by all users which own the same permission resource.
+     * Deleted permissions are never evicted one by one, so the least recently used patterns are evicted when full.
+     */
+    private final Cache<String, Pattern> permissionPatternCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_PERMISSION_PATTERNS).build();
+    
     protected AbstractCheckedRoleService(AuthConfigs authConfigs) {
         this.authConfigs = authConfigs;
     }
@@ -73,19 +84,21 @@ public abstract class AbstractCheckedRoleService extends AbstractCachedRoleServi
         }
         
         // For other roles, use a pattern match to decide if pass or not.
+        String joinedResource = null;
         for (RoleInfo roleInfo : roleInfoList) {
             List<PermissionInfo> permissionInfoList = getPermissions(roleInfo.getRole());
             if (CollectionUtils.isEmpty(permissionInfoList)) {
                 continue;
             }
             for (PermissionInfo permissionInfo : permissionInfoList) {
-                String permissionResource = permissionInfo.getResource().replaceAll("\\*", ".*");
-                if (permissionResource.startsWith(":")) {
-                    permissionResource = DEFAULT_NAMESPACE_ID + permissionResource;
-                }
                 String permissionAction = permissionInfo.getAction();
-                if (permissionAction.contains(permission.getAction()) && Pattern.matches(permissionResource,
-                        joinResource(permission.getResource()))) {
+                if (!permissionAction.contains(permission.getAction())) {
+                    continue;
+                }
+                if (null == joinedResource) {
+                    joinedResource = joinResource(permission.getResource());
+                }
+                if (getPermissionPattern(permissionInfo.getResource()).matcher(joinedResource).matches()) {
                     return true;
                 }
             }
@@ -93,6 +106,20 @@ public abstract class AbstractCheckedRoleService extends AbstractCachedRoleServi
         return false;
     }
     
+    private Pattern getPermissionPattern(String resource) {
+        Pattern pattern = permissionPatternCache.getIfPresent(resource);
+        if (null != pattern) {
+            return pattern;
+        }
+        String permissionResource = resource.replaceAll("\\*", ".*");
+        if (permissionResource.startsWith(":")) {
+            permissionResource = DEFAULT_NAMESPACE_ID + permissionResource;
+        }
+        pattern = Pattern.compile(permissionResource);
+        permissionPatternCache.put(resource, pattern);
+        return pattern;
+    }
+    
     @Override
     public Result<Boolean> isDuplicatePermission(String role, String resource, String action) {
         List<PermissionInfo> permissionInfos = getPermissions(role);
@@ -27,7 +27,11 @@ import com.alibaba.nacos.plugin.auth.impl.persistence.RoleInfo;
 import com.alibaba.nacos.plugin.auth.impl.persistence.RolePersistService;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUserService;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Nacos builtin role service, implemented by directly access to database.
@@ -114,6 +118,32 @@ public class NacosRoleServiceDirectImpl extends AbstractCheckedRoleService imple
         return pageInfo;
     }
     
+    /**
+     * Load permissions of all roles by one query and group them by role, instead of one query per role.
+     *
+     * @param roles all roles
+     * @return permissions grouped by role
+     */
+    @Override
+    protected Map<String, List<PermissionInfo>> loadPermissions(Set<String> roles) {
+        Map<String, List<PermissionInfo>> result = new ConcurrentHashMap<>(roles.size() * 2 + 16);
+        for (String role : roles) {
+            result.put(role, new ArrayList<>());
+        }
+        Page<PermissionInfo> permissionInfoPage = getPermissions(StringUtils.EMPTY, DEFAULT_PAGE_NO,
+                Integer.MAX_VALUE);
+        if (permissionInfoPage.getPageItems() == null) {
+            return result;
+        }
+        for (PermissionInfo permissionInfo : permissionInfoPage.getPageItems()) {
+            List<PermissionInfo> permissionInfoList = result.get(permissionInfo.getRole());
+            if (permissionInfoList != null) {
+                permissionInfoList.add(permissionInfo);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void addRole(String role, String username) {
         if (userDetailsService.getUser(username) == null) {
@@ -82,12 +82,9 @@ public class CachedJwtTokenManager implements TokenManager {
      * @throws AccessException access exception
      */
     public String createToken(String username) throws AccessException {
-        if (userMap.containsKey(username)) {
-            String token = userMap.get(username).getToken();
-            long expiredTime = userMap.get(username).getExpiredTimeMills();
-            if (!needRefresh(expiredTime)) {
-                return token;
-            }
+        TokenEntity cachedEntity = userMap.get(username);
+        if (cachedEntity != null && !needRefresh(cachedEntity.getExpiredTimeMills())) {
+            return cachedEntity.getToken();
         }
         String token = jwtTokenManager.createToken(username);
         NacosUser user = jwtTokenManager.parseToken(token);
@@ -107,10 +104,11 @@ public class CachedJwtTokenManager implements TokenManager {
      * @throws AccessException access exception
      */
     public Authentication getAuthentication(String token) throws AccessException {
-        if (!tokenMap.containsKey(token)) {
+        TokenEntity tokenEntity = tokenMap.get(token);
+        if (tokenEntity == null) {
             return jwtTokenManager.getAuthentication(token);
         }
-        return tokenMap.get(token).getAuthentication();
+        return tokenEntity.getAuthentication();
     }
     
     /**
@@ -140,7 +138,8 @@ public class CachedJwtTokenManager implements TokenManager {
     
     @Override
     public NacosUser parseToken(String token) throws AccessException {
-        if (!tokenMap.containsKey(token)) {
+        TokenEntity tokenEntity = tokenMap.get(token);
+        if (tokenEntity == null) {
             Authentication authentication = jwtTokenManager.getAuthentication(token);
             String username = authentication.getName();
             if (username == null || username.isEmpty()) {
@@ -154,13 +153,13 @@ public class CachedJwtTokenManager implements TokenManager {
             tokenMap.putIfAbsent(token, new TokenEntity(token, username, expiredTime, authentication, user));
             return user;
         }
-        return tokenMap.get(token).getNacosUser();
+        return tokenEntity.getNacosUser();
     }
     
     public long getTokenTtlInSeconds(String token) throws AccessException {
-        if (tokenMap.containsKey(token)) {
-            return TimeUnit.MILLISECONDS.toSeconds(
-                    tokenMap.get(token).getExpiredTimeMills() - System.currentTimeMillis());
+        TokenEntity tokenEntity = tokenMap.get(token);
+        if (tokenEntity != null) {
+            return TimeUnit.MILLISECONDS.toSeconds(tokenEntity.getExpiredTimeMills() - System.currentTimeMillis());
         }
         return jwtTokenManager.getTokenTtlInSeconds(token);
     }
@@ -17,15 +17,20 @@
 package com.alibaba.nacos.plugin.auth.impl.jwt;
 
 import com.alibaba.nacos.plugin.auth.exception.AccessException;
+import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
+import com.google.common.cache.Cache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -88,6 +93,53 @@ class NacosJwtParserTest {
         assertTrue(expiredTimeSeconds * 1000 - System.currentTimeMillis() > 0);
     }
     
+    @Test
+    void testParseVerifiedToken() throws AccessException {
+        NacosJwtParser parser = new NacosJwtParser(encode("SecretKey01234567890123456789012"));
+        String token = parser.jwtBuilder().setUserName("nacos").setExpiredTime(100L).compact();
+        NacosUser user = parser.parse(token);
+        assertEquals("nacos", user.getUserName());
+        assertEquals(token, user.getToken());
+        NacosUser userAgain = parser.parse(token);
+        assertEquals("nacos", userAgain.getUserName());
+        assertEquals(parser.getExpireTimeInSeconds(token), parser.getExpireTimeInSeconds(token));
+    }
+    
+    @Test
+    void testParseTokenSignedByOtherKey() throws AccessException {
+        NacosJwtParser parser = new NacosJwtParser(encode("SecretKey01234567890123456789012"));
+        NacosJwtParser otherParser = new NacosJwtParser(encode("SecretKey01234567890123456789013"));
+        String token = otherParser.jwtBuilder().setUserName("nacos").setExpiredTime(100L).compact();
+        assertEquals("nacos", otherParser.parse(token).getUserName());
+        assertThrows(AccessException.class, () -> parser.parse(token));
+        assertThrows(AccessException.class, () -> parser.getExpireTimeInSeconds(token));
+    }
+    
+    @Test
+    void testParseExpiredToken() {
+        NacosJwtParser parser = new NacosJwtParser(encode("SecretKey01234567890123456789012"));
+        String token = parser.jwtBuilder().setUserName("nacos").setExpiredTime(-100L).compact();
+        assertThrows(AccessException.class, () -> parser.parse(token));
+    }
+    
+    @Test
+    void testVerifiedPayloadsBounded() throws Exception {
+        NacosJwtParser parser = new NacosJwtParser(encode("SecretKey01234567890123456789012"));
+        String expiredToken = parser.jwtBuilder().setUserName("nacos").setExpiredTime(-100L).compact();
+        assertThrows(AccessException.class, () -> parser.parse(expiredToken));
+        Cache<?, ?> verifiedPayloads = (Cache<?, ?>) ReflectionTestUtils.getField(parser, "verifiedPayloads");
+        assertNull(verifiedPayloads.getIfPresent(expiredToken));
+        
+        String firstToken = parser.jwtBuilder().setUserName("nacos0").setExpiredTime(100L).compact();
+        parser.parse(firstToken);
+        for (int i = 1; i <= 10000; i++) {
+            parser.parse(parser.jwtBuilder().setUserName("nacos" + i).setExpiredTime(100L).compact());
+        }
+        assertTrue(verifiedPayloads.size() <= 10000);
+        // evicted tokens are verified again
+        assertEquals("nacos0", parser.parse(firstToken).getUserName());
+    }
+    
     private String encode(String key) {
         return Base64.getEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8));
     }
@@ -36,8 +36,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -48,6 +50,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -84,6 +88,41 @@ class NacosRoleServiceDirectImplTest {
         reload.invoke(nacosRoleService);
     }
     
+    @Test
+    void reloadPermissionsByOneQuery() throws Exception {
+        RoleInfo roleInfo1 = new RoleInfo();
+        roleInfo1.setRole("role1");
+        roleInfo1.setUsername("user1");
+        RoleInfo roleInfo2 = new RoleInfo();
+        roleInfo2.setRole("role2");
+        roleInfo2.setUsername("user2");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Arrays.asList(roleInfo1, roleInfo2));
+        when(rolePersistService.getRolesByUserNameAndRoleName("", "", 1, Integer.MAX_VALUE)).thenReturn(rolePage);
+        PermissionInfo permissionInfo1 = new PermissionInfo();
+        permissionInfo1.setRole("role1");
+        permissionInfo1.setResource(":*:*");
+        permissionInfo1.setAction("r");
+        PermissionInfo permissionInfo3 = new PermissionInfo();
+        permissionInfo3.setRole("role3");
+        permissionInfo3.setResource(":*:*");
+        permissionInfo3.setAction("rw");
+        Page<PermissionInfo> permissionPage = new Page<>();
+        permissionPage.setPageItems(Arrays.asList(permissionInfo1, permissionInfo3));
+        when(permissionPersistService.getPermissions("", 1, Integer.MAX_VALUE)).thenReturn(permissionPage);
+        
+        Method reload = AbstractCachedRoleService.class.getDeclaredMethod("reload");
+        reload.setAccessible(true);
+        reload.invoke(nacosRoleService);
+        
+        verify(permissionPersistService).getPermissions("", 1, Integer.MAX_VALUE);
+        verifyNoMoreInteractions(permissionPersistService);
+        Map<String, List<PermissionInfo>> permissionInfoMap = nacosRoleService.getCachedPermissionInfoMap();
+        assertEquals(2, permissionInfoMap.size());
+        assertEquals(Collections.singletonList(permissionInfo1), permissionInfoMap.get("role1"));
+        assertTrue(permissionInfoMap.get("role2").isEmpty());
+    }
+    
     @Test
     void hasPermission() {
         Permission permission = new Permission();
@@ -107,6 +146,41 @@ class NacosRoleServiceDirectImplTest {
         assertTrue(res3);
     }
     
+    @Test
+    void hasPermissionByResourcePattern() {
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setRole("role1");
+        roleInfo.setUsername("nacos");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("nacos", "", 1, Integer.MAX_VALUE)).thenReturn(rolePage);
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("role1");
+        permissionInfo.setResource(":DEFAULT_GROUP:config/*");
+        permissionInfo.setAction("r");
+        Page<PermissionInfo> permissionPage = new Page<>();
+        permissionPage.setPageItems(Collections.singletonList(permissionInfo));
+        when(permissionPersistService.getPermissions("role1", 1, Integer.MAX_VALUE)).thenReturn(permissionPage);
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("nacos");
+        
+        Permission readPermission = new Permission();
+        readPermission.setAction("r");
+        readPermission.setResource(new Resource("", "DEFAULT_GROUP", "dataId", "config", new Properties()));
+        assertTrue(nacosRoleService.hasPermission(nacosUser, readPermission));
+        assertTrue(nacosRoleService.hasPermission(nacosUser, readPermission));
+        
+        Permission otherGroupPermission = new Permission();
+        otherGroupPermission.setAction("r");
+        otherGroupPermission.setResource(new Resource("", "OTHER_GROUP", "dataId", "config", new Properties()));
+        assertFalse(nacosRoleService.hasPermission(nacosUser, otherGroupPermission));
+        
+        Permission writePermission = new Permission();
+        writePermission.setAction("w");
+        writePermission.setResource(new Resource("", "DEFAULT_GROUP", "dataId", "config", new Properties()));
+        assertFalse(nacosRoleService.hasPermission(nacosUser, writePermission));
+    }
+    
     @Test
     void getRoles() {
         List<RoleInfo> nacos = nacosRoleService.getRoles("role-admin");
@@ -16,8 +16,6 @@
 
 package com.alibaba.nacos.plugin.control.tps.barrier;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -32,13 +30,16 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     
     long startTime = System.currentTimeMillis();
     
-    private List<TpsSlot> slotList;
+    private final long periodMillis;
+    
+    private final TpsSlot[] slots;
     
     public LocalSimpleCountRateCounter(String name, TimeUnit period) {
         super(name, period);
-        slotList = new ArrayList<>(DEFAULT_RECORD_SIZE);
+        periodMillis = period.toMillis(1);
+        slots = new TpsSlot[DEFAULT_RECORD_SIZE];
         for (int i = 0; i < DEFAULT_RECORD_SIZE; i++) {
-            slotList.add(new TpsSlot());
+            slots[i] = new TpsSlot();
         }
         long now = System.currentTimeMillis();
         
@@ -61,10 +62,11 @@ public class LocalSimpleCountRateCounter extends RateCounter {
 
     @Override
     public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
-        if (createSlotIfAbsent(timestamp).countHolder.count.addAndGet(countDelta) <= upperLimit) {
+        SlotCountHolder countHolder = createSlotIfAbsent(timestamp).countHolder;
+        if (countHolder.count.addAndGet(countDelta) <= upperLimit) {
             return true;
         } else {
-            createSlotIfAbsent(timestamp).countHolder.interceptedCount.addAndGet(countDelta);
+            countHolder.interceptedCount.addAndGet(countDelta);
             return false;
         }
     }
@@ -86,13 +88,9 @@ public class LocalSimpleCountRateCounter extends RateCounter {
      * @return tps slot.
      */
     private TpsSlot getPoint(long timeStamp) {
-        long distance = timeStamp - startTime;
-        long diff = (distance < 0 ? distance + getPeriod().toMillis(1) * DEFAULT_RECORD_SIZE : distance) / getPeriod()
-                .toMillis(1);
-        long currentWindowTime = startTime + diff * getPeriod().toMillis(1);
-        int index = (int) diff % DEFAULT_RECORD_SIZE;
-        TpsSlot tpsSlot = slotList.get(index);
-        if (tpsSlot.time != currentWindowTime) {
+        long diff = getWindowDiff(timeStamp);
+        TpsSlot tpsSlot = slots[(int) (diff % DEFAULT_RECORD_SIZE)];
+        if (tpsSlot.time != startTime + diff * periodMillis) {
             return null;
         }
         return tpsSlot;
@@ -105,22 +103,23 @@ public class LocalSimpleCountRateCounter extends RateCounter {
      * @return tps slot.
      */
     public TpsSlot createSlotIfAbsent(long timeStamp) {
-        long distance = timeStamp - startTime;
-        
-        long diff = (distance < 0 ? distance + getPeriod().toMillis(1) * DEFAULT_RECORD_SIZE : distance) / getPeriod()
-                .toMillis(1);
-        long currentWindowTime = startTime + diff * getPeriod().toMillis(1);
-        int index = (int) diff % DEFAULT_RECORD_SIZE;
-        TpsSlot tpsSlot = slotList.get(index);
+        long diff = getWindowDiff(timeStamp);
+        long currentWindowTime = startTime + diff * periodMillis;
+        TpsSlot tpsSlot = slots[(int) (diff % DEFAULT_RECORD_SIZE)];
         if (tpsSlot.time != currentWindowTime) {
             tpsSlot.reset(currentWindowTime);
         }
-        return slotList.get(index);
+        return tpsSlot;
+    }
+    
+    private long getWindowDiff(long timeStamp) {
+        long distance = timeStamp - startTime;
+        return (distance < 0 ? distance + periodMillis * DEFAULT_RECORD_SIZE : distance) / periodMillis;
     }
     
     static class TpsSlot {
         
-        long time = 0L;
+        volatile long time = 0L;
         
         private SlotCountHolder countHolder = new SlotCountHolder();
         
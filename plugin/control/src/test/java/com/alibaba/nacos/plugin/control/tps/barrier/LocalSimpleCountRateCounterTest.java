@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalSimpleCountRateCounterTest {
+    
+    @Test
+    void testTryAdd() {
+        LocalSimpleCountRateCounter counter = new LocalSimpleCountRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        assertTrue(counter.tryAdd(timestamp, 1, 2));
+        assertTrue(counter.tryAdd(timestamp, 1, 2));
+        assertFalse(counter.tryAdd(timestamp, 1, 2));
+        assertEquals(3L, counter.getCount(timestamp));
+    }
+    
+    @Test
+    void testSlotRollOver() {
+        LocalSimpleCountRateCounter counter = new LocalSimpleCountRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        counter.add(timestamp, 5);
+        assertEquals(5L, counter.getCount(timestamp));
+        // ten windows later the same slot is reused and reset
+        long later = timestamp + TimeUnit.SECONDS.toMillis(10);
+        assertEquals(0L, counter.getCount(later));
+        counter.add(later, 1);
+        assertEquals(1L, counter.getCount(later));
+        assertEquals(0L, counter.getCount(timestamp));
+    }
+}